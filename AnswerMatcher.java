@@ -0,0 +1,184 @@
+package team10;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+// 주관식 답 채점.
+// 뜻/영단어를 쉼표 등으로 나눠 정답 후보를 만들고 (괄호 부분은 있어도 없어도 정답),
+// 공백과 문장 부호를 지우고 NFKC 로 맞춘 뒤 한글은 자모(초성/중성/종성) 단위로 풀어서 비교한다.
+// 정확히 같지 않으면 자모 편집 거리 maxDistance 까지 오타로 봐 준다. 다만 짧은 답은 한 글자만
+// 틀려도 다른 단어가 되므로 후보 길이 TYPO_SPAN 자모마다 1 씩만 허용한다 (사과/사고는 오답).
+//
+// 후보는 Word 에 캐시하고 (뜻이 바뀌면 Word 가 지움), 입력 답은 스레드별 버퍼에서 변환하므로
+// 채점할 때는 거의 할당하지 않는다 (NFKC 변환은 완성형 한글/ASCII 가 아닌 글자가 있을 때만).
+public class AnswerMatcher {
+
+    private static final int TYPO_SPAN = 5;
+
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+
+    // 캐시: Word 의 eng/kor 에서 만든 정답 후보 (자모 단위)
+    static final class Accepted {
+        final char[][] kor;
+        final char[][] eng;
+
+        Accepted(Word w) {
+            this.kor = alternatives(w.getKor());
+            this.eng = alternatives(w.getEng());
+        }
+    }
+
+    private static final class Scratch {
+        char[] input = new char[64];
+        int[] prev2 = new int[64];
+        int[] prev = new int[64];
+        int[] cur = new int[64];
+    }
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final int maxDistance;
+
+    public AnswerMatcher(int maxDistance) {
+        this.maxDistance = Math.max(0, maxDistance);
+    }
+
+    public int getMaxDistance() { return maxDistance; }
+
+    /* ================== 채점 ================== */
+
+    // 영어 → 한국어 문제: 답이 뜻 중 하나와 맞는지
+    public boolean matchesKor(Word w, String answer) {
+        return matches(accepted(w).kor, answer);
+    }
+
+    // 한국어 → 영어 문제
+    public boolean matchesEng(Word w, String answer) {
+        return matches(accepted(w).eng, answer);
+    }
+
+    private boolean matches(char[][] alternatives, String answer) {
+        if (answer == null) return false;
+        Scratch s = SCRATCH.get();
+        int len = toJamo(answer, s);
+        if (len == 0) return false;
+        char[] in = s.input;
+        for (char[] alt : alternatives) {
+            if (alt.length == len && equals(alt, in, len)) return true;
+        }
+        if (maxDistance == 0) return false;
+        for (char[] alt : alternatives) {
+            int allowed = Math.min(maxDistance, alt.length / TYPO_SPAN);
+            if (allowed > 0 && Math.abs(alt.length - len) <= allowed
+                    && distance(alt, in, len, allowed, s) <= allowed) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Accepted accepted(Word w) {
+        Accepted a = w.accepted;
+        if (a == null) {
+            a = new Accepted(w);
+            w.accepted = a;   // 경쟁해도 같은 값을 다시 만들 뿐
+        }
+        return a;
+    }
+
+    private static boolean equals(char[] a, char[] b, int len) {
+        for (int i = 0; i < len; i++) {
+            if (a[i] != b[i]) return false;
+        }
+        return true;
+    }
+
+    // 제한 거리 편집 거리 (삽입/삭제/치환/인접 자모 바꿈). max 를 넘으면 max + 1
+    private static int distance(char[] a, char[] b, int lb, int max, Scratch s) {
+        int la = a.length;
+        if (lb + 1 > s.cur.length) {
+            s.prev2 = new int[lb + 1];
+            s.prev = new int[lb + 1];
+            s.cur = new int[lb + 1];
+        }
+        int[] prev2 = s.prev2, prev = s.prev, cur = s.cur;
+        for (int j = 0; j <= lb; j++) prev[j] = j;
+        for (int i = 1; i <= la; i++) {
+            cur[0] = i;
+            int rowMin = i;
+            char ca = a[i - 1];
+            for (int j = 1; j <= lb; j++) {
+                char cb = b[j - 1];
+                int v = Math.min(Math.min(prev[j] + 1, cur[j - 1] + 1), prev[j - 1] + (ca == cb ? 0 : 1));
+                if (i > 1 && j > 1 && ca == b[j - 2] && a[i - 2] == cb) v = Math.min(v, prev2[j - 2] + 1);
+                cur[j] = v;
+                if (v < rowMin) rowMin = v;
+            }
+            if (rowMin > max) return max + 1;
+            int[] t = prev2;
+            prev2 = prev;
+            prev = cur;
+            cur = t;
+        }
+        return Math.min(prev[lb], max + 1);
+    }
+
+    /* ================== 정규화 ================== */
+
+    // "(을) 전공하다, 전공; 專攻" → [을전공하다, 전공하다, 전공, 專攻] (자모로 푼 것)
+    static char[][] alternatives(String gloss) {
+        List<char[]> out = new ArrayList<>();
+        if (gloss != null) {
+            Scratch s = new Scratch();
+            for (String part : gloss.split("[,;/·]")) {
+                addAlternative(out, part.replace("(", "").replace(")", ""), s);
+                addAlternative(out, part.replaceAll("\\([^)]*\\)", ""), s);
+            }
+        }
+        return out.toArray(new char[0][]);
+    }
+
+    private static void addAlternative(List<char[]> out, String text, Scratch s) {
+        int len = toJamo(text, s);
+        if (len == 0) return;
+        for (char[] alt : out) {
+            if (alt.length == len && equals(alt, s.input, len)) return;
+        }
+        char[] alt = new char[len];
+        System.arraycopy(s.input, 0, alt, 0, len);
+        out.add(alt);
+    }
+
+    // 공백/문장 부호를 빼고 소문자로, 한글 음절은 자모로 풀어 s.input 에 쓴다. 길이를 돌려준다
+    private static int toJamo(String text, Scratch s) {
+        if (needsNormalizing(text)) text = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        if (s.input.length < text.length() * 3) s.input = new char[text.length() * 3];
+        char[] buf = s.input;
+        int n = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+                int code = c - HANGUL_FIRST;
+                buf[n++] = (char) (0x1100 + code / (21 * 28));          // 초성
+                buf[n++] = (char) (0x1161 + code % (21 * 28) / 28);     // 중성
+                if (code % 28 != 0) buf[n++] = (char) (0x11A7 + code % 28);   // 종성
+            } else if (Character.isLetterOrDigit(c)) {
+                buf[n++] = c < 0x80 ? Character.toLowerCase(c) : c;
+            } else if (Character.isHighSurrogate(c) || Character.isLowSurrogate(c)) {
+                buf[n++] = c;
+            }
+        }
+        return n;
+    }
+
+    // 완성형 한글, ASCII, 공백만 있으면 NFKC 로 바뀔 것이 없다
+    private static boolean needsNormalizing(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80 && !(c >= HANGUL_FIRST && c <= HANGUL_LAST) && !Character.isWhitespace(c)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,174 @@
+package team10;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// 한 파일에 줄을 덧붙이는 백그라운드 기록기.
+// append 는 크기가 정해진 큐에 넣기만 하고 (가득 차면 빌 때까지 기다림 = backpressure),
+// 전용 스레드가 쌓인 것을 한 번에 꺼내 write 한 번으로 기록한다. 파일은 계속 열어 둔다.
+// flush 는 그 시점까지 넣은 것이 모두 기록될 때까지 기다리고, close 와 종료 훅에서는 디스크까지 내린다.
+// close 하면 종료 훅도 떼어 내므로 기록기를 여러 번 만들었다 닫아도 훅과 스레드가 쌓이지 않는다.
+public class AsyncLogWriter {
+
+    private static final int MAX_BATCH = 256;
+    private static final byte[] CLOSE = new byte[0];   // 큐에 넣으면 스레드 종료 (interrupt 는 FileChannel 을 닫아 버림)
+
+    private final Path file;
+    private final BlockingQueue<byte[]> queue;
+    private final Thread worker;
+    private final Thread shutdownHook;
+    private FileChannel channel;   // worker 스레드만 사용
+
+    // 넣은 수 / 기록한 수 (flush 대기용)
+    private long enqueued;
+    private long written;
+    private volatile boolean closed;
+
+    private volatile long lastFlushNanos;
+    private volatile long maxFlushNanos;
+    private volatile long batches;
+    private volatile long failedBatches;   // 기록하지 못하고 버린 배치 수
+
+    public AsyncLogWriter(Path file, int capacity, String threadName) {
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.worker = new Thread(this::run, threadName);
+        worker.setDaemon(true);
+        worker.start();
+        shutdownHook = new Thread(this::close, threadName + "-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /* ================== 기록 ================== */
+
+    public void append(byte[] line) {
+        if (closed) throw new IllegalStateException("닫힌 기록기: " + file.getFileName());
+        synchronized (this) {
+            enqueued++;
+        }
+        try {
+            queue.put(line);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            synchronized (this) {
+                enqueued--;
+                notifyAll();
+            }
+        }
+    }
+
+    // 지금까지 append 한 것이 파일에 쓰일 때까지 기다린다
+    public synchronized void flush() throws InterruptedException {
+        long target = enqueued;
+        while (written < target && worker.isAlive()) wait(100);
+    }
+
+    // 남은 것을 모두 기록하고 디스크까지 내린 뒤 스레드를 끝낸다 (여러 번 불러도 됨)
+    public void close() {
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+        }
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // 이미 종료 중: 훅은 어차피 돌고 나면 끝난다
+            }
+        }
+        try {
+            queue.put(CLOSE);
+            worker.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /* ================== 상태 ================== */
+
+    public int getQueueDepth() { return queue.size(); }
+    public long getLastFlushNanos() { return lastFlushNanos; }
+    public long getMaxFlushNanos() { return maxFlushNanos; }
+    public long getBatches() { return batches; }
+    // 늘었으면 그 사이 일부 줄이 파일에 없다 (append 한 바이트 수로 오프셋을 세던 쪽은 다시 맞춰야 함)
+    public long getFailedBatches() { return failedBatches; }
+    public synchronized long getWritten() { return written; }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d줄, 배치 %d번, 대기 %d, flush 최근 %.2f ms / 최대 %.2f ms",
+                file.getFileName(), getWritten(), batches, getQueueDepth(),
+                lastFlushNanos / 1e6, maxFlushNanos / 1e6);
+    }
+
+    /* ================== 스레드 ================== */
+
+    private void run() {
+        List<byte[]> batch = new ArrayList<>(MAX_BATCH);
+        boolean stop = false;
+        while (!stop) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                stop = true;
+            }
+            queue.drainTo(batch, MAX_BATCH - batch.size());
+            if (batch.remove(CLOSE)) stop = true;
+            if (!batch.isEmpty()) write(batch);
+            batch.clear();
+        }
+        try {
+            if (channel != null) {
+                channel.force(false);
+                channel.close();
+            }
+        } catch (IOException e) {
+            System.out.println("로그 닫기 오류 (" + file.getFileName() + "): " + e.getMessage());
+        }
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    // 실패해도 스레드는 계속 돈다 (그 배치만 잃고, flush 가 멈추지 않도록 기록한 것으로 센다. failedBatches 로 알림)
+    private void write(List<byte[]> batch) {
+        long start = System.nanoTime();
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            int total = 0;
+            for (byte[] b : batch) total += b.length;
+            ByteBuffer buf = ByteBuffer.allocate(total);
+            for (byte[] b : batch) buf.put(b);
+            buf.flip();
+            while (buf.hasRemaining()) channel.write(buf);
+        } catch (IOException e) {
+            System.out.println("로그 기록 오류 (" + file.getFileName() + "): " + e.getMessage());
+            try {
+                if (channel != null) channel.close();
+            } catch (IOException ignored) {
+                // 다음 배치에서 다시 연다
+            }
+            channel = null;
+            failedBatches++;
+        }
+
+        long took = System.nanoTime() - start;
+        lastFlushNanos = took;
+        if (took > maxFlushNanos) maxFlushNanos = took;
+        batches++;
+        synchronized (this) {
+            written += batch.size();
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package team10;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// 중간에 프로세스가 죽어도 파일이 잘린 채로 남지 않게 저장하는 도우미.
+// 임시 파일(대상 + ".tmp")에 쓰고 fsync 한 뒤 rename 으로 한 번에 바꾼다.
+//
+// 여러 파일을 하나의 단위로 저장할 때(Batch)는 임시 파일을 모두 쓴 다음
+// "임시 → 대상" 목록을 커밋 파일에 원자적으로 기록하고 나서 rename 한다.
+// rename 도중 죽으면 다음 시작 때 recover 가 커밋 파일을 보고 나머지 rename 을 마저 한다.
+public final class AtomicFiles {
+
+    public interface Content {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private AtomicFiles() {
+    }
+
+    public static void write(Path target, Content content) throws IOException {
+        Batch batch = new Batch(null);
+        batch.add(target, content);
+        batch.commit();
+    }
+
+    public static final class Batch {
+        private final Path commitFile;   // null 이면 파일 하나짜리 (커밋 파일 불필요)
+        private final List<Path> temps = new ArrayList<>();
+        private final List<Path> targets = new ArrayList<>();
+
+        public Batch(Path commitFile) {
+            this.commitFile = commitFile;
+        }
+
+        // 임시 파일에 바로 쓰고 디스크까지 내린다. 임시 파일 경로를 돌려준다
+        public Path add(Path target, Content content) throws IOException {
+            Path temp = tempOf(target);
+            writeDurably(temp, content);
+            temps.add(temp);
+            targets.add(target);
+            return temp;
+        }
+
+        public void commit() throws IOException {
+            if (commitFile != null && temps.size() > 1) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < temps.size(); i++) {
+                    sb.append(temps.get(i)).append('\t').append(targets.get(i)).append('\n');
+                }
+                byte[] plan = sb.toString().getBytes(StandardCharsets.UTF_8);
+                Path planTemp = tempOf(commitFile);
+                writeDurably(planTemp, out -> out.write(plan));
+                move(planTemp, commitFile);   // 이 rename 이 커밋 지점
+            }
+            for (int i = 0; i < temps.size(); i++) {
+                move(temps.get(i), targets.get(i));
+            }
+            if (commitFile != null) Files.deleteIfExists(commitFile);
+        }
+
+        // 실패했을 때 남은 임시 파일 정리
+        public void abort() {
+            for (Path t : temps) {
+                try {
+                    Files.deleteIfExists(t);
+                } catch (IOException ignored) {
+                    // 다음 저장 때 덮어쓴다
+                }
+            }
+        }
+    }
+
+    // 커밋 파일이 남아 있으면 (rename 도중 종료) 남은 rename 을 마저 한다
+    public static void recover(Path commitFile) {
+        if (!Files.exists(commitFile)) return;
+        try {
+            for (String line : Files.readAllLines(commitFile, StandardCharsets.UTF_8)) {
+                String[] f = line.split("\t");
+                if (f.length != 2) continue;
+                Path temp = Paths.get(f[0]);
+                if (Files.exists(temp)) move(temp, Paths.get(f[1]));
+            }
+            Files.delete(commitFile);
+            System.out.println("중단된 저장을 마저 반영했습니다: " + commitFile.getFileName());
+        } catch (IOException e) {
+            System.out.println("저장 복구 오류: " + e.getMessage());
+        }
+    }
+
+    private static Path tempOf(Path target) {
+        return target.resolveSibling(target.getFileName() + ".tmp");
+    }
+
+    private static void writeDurably(Path file, Content content) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(ch), 1 << 16);
+            content.writeTo(out);
+            out.flush();
+            ch.force(true);
+        }
+    }
+
+    private static void move(Path from, Path to) throws IOException {
+        Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory(to.toAbsolutePath().getParent());
+    }
+
+    // rename 자체를 디스크에 남기기 위해 디렉터리도 fsync (지원하지 않는 OS 에서는 무시)
+    private static void syncDirectory(Path dir) {
+        if (dir == null) return;
+        try (FileChannel ch = FileChannel.open(dir, StandardOpenOption.READ)) {
+            ch.force(true);
+        } catch (IOException ignored) {
+            // Windows 등
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package team10;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 모든 사용자가 같이 쓰는 기본 단어장 (words.txt).
+// JVM 안에서 파일마다 한 번만 읽어 저장소와 색인들을 만들고, 그 뒤로는 절대 고치지 않는다.
+// 사용자별 추가/수정/삭제는 VocManager 가 이것들을 base 로 하는 층(new VocStore(base) 등)에 담으므로
+// 사용자를 하나 더 열어도 기본 단어장은 복사되지 않는다.
+//
+// 단어는 CompactVocStore 의 배열에 빽빽하게 두고, 저장소(voc)와 정렬 인덱스(sorted)는 그 위의 읽기 전용 뷰다.
+// Word 는 꺼낼 때마다 새로 만들고 들고 있지 않는다 (같은 단어인지는 키로 비교).
+// 검색/철자 후보/Wordle/보기 색인은 처음 쓸 때 같은 저장소 위에 읽기 전용으로 만들고, 단어를 id 로만 가리킨다.
+// 이전 버전이 남긴 공용 저널(words.journal)은 읽어서 반영만 하고 지우지 않는다.
+// 원본 파일의 크기/수정시각이 바뀌면 다음 of() 부터 새로 읽는다 (이미 열린 사용자는 이전 것을 계속 쓴다).
+public final class BaseDictionary {
+
+    private static final Map<Path, BaseDictionary> LOADED = new ConcurrentHashMap<>();
+
+    private final long sourceSize;
+    private final long sourceModified;
+
+    final CompactVocStore words;
+    final VocStore voc;
+    final SortedWordIndex sorted;
+    private SearchIndex search;
+    private FuzzyIndex fuzzy;
+    private WordlePool wordle;
+    private DistractorEngine distractors;
+    private final Map<Integer, WordleSolver> wordleSolvers = new ConcurrentHashMap<>();   // 글자 수별
+
+    // textFileName 의 기본 단어장. 같은 파일은 처음 한 번만 읽고, 동시에 불러도 한 스레드만 읽는다
+    public static BaseDictionary of(String textFileName) {
+        Path path = Paths.get(textFileName).toAbsolutePath().normalize();
+        long[] stamp = stampOf(path);
+        return LOADED.compute(path, (p, old) ->
+                old != null && old.sourceSize == stamp[0] && old.sourceModified == stamp[1]
+                        ? old : new BaseDictionary(textFileName, stamp));
+    }
+
+    private static long[] stampOf(Path path) {
+        try {
+            return new long[]{Files.size(path), Files.getLastModifiedTime(path).toMillis()};
+        } catch (IOException e) {
+            return new long[]{-1, -1};   // 파일 없음
+        }
+    }
+
+    public int size() { return words.size(); }
+
+    /* ================== 로드 ================== */
+
+    // 바이너리 스냅샷(words.snap)이 유효하면 그 배열을 그대로, 아니면 words.txt 를 읽는다
+    private BaseDictionary(String textFileName, long[] stamp) {
+        this.sourceSize = stamp[0];
+        this.sourceModified = stamp[1];
+        long start = System.nanoTime();
+
+        CompactVocStore store;
+        VocSnapshot snap = VocSnapshot.open(VocManager.snapshotPathOf(textFileName), Paths.get(textFileName));
+        if (snap != null) {
+            store = snap.store();   // 배열만 읽은 상태 (Word 는 아직 없음)
+        } else {
+            store = loadText(textFileName);
+        }
+
+        List<String[]> ops = VocJournal.read(Paths.get(VocManager.journalPathOf(textFileName) + ".old"));
+        ops.addAll(VocJournal.read(VocManager.journalPathOf(textFileName)));
+        if (!ops.isEmpty()) store = applyJournal(store, ops);
+
+        store.freeze();
+        this.words = store;
+        this.voc = new VocStore(store);
+        this.sorted = new SortedWordIndex(store);
+        System.out.printf("기본 단어장 로드: %d개 (공용 저널 %d건), %.1f ms%n",
+                store.size(), ops.size(), (System.nanoTime() - start) / 1e6);
+    }
+
+    private static CompactVocStore loadText(String textFileName) {
+        Path f = Paths.get(textFileName);
+        if (!Files.exists(f)) return new CompactVocStore(16);
+        CompactVocStore store;
+        try {
+            VocLoader.Result r = VocLoader.load(f);
+            store = new CompactVocStore(r.words.size());
+            store.addAll(r.words);
+            System.out.println("단어장 로드: " + r);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("단어장 파일 읽기 오류: " + e.getMessage());
+            return new CompactVocStore(16);
+        }
+        // 다음 시작부터는 스냅샷으로 바로 읽도록
+        store.freeze();
+        try {
+            VocSnapshot.write(VocManager.snapshotPathOf(textFileName), store, f);
+        } catch (IOException e) {
+            System.out.println("스냅샷 저장 오류: " + e.getMessage());
+        }
+        return store;
+    }
+
+    // 공용 저널을 반영한 새 저장소 (저널은 이전 버전에서만 생기므로 드물다)
+    private static CompactVocStore applyJournal(CompactVocStore store, List<String[]> ops) {
+        LinkedHashMap<String, Word> map = new LinkedHashMap<>();
+        for (int id = 0; id < store.size(); id++) {
+            Word w = new Word(store.eng(id), store.kor(id));   // 고칠 수 있게 사본으로
+            map.put(w.getKey(), w);
+        }
+        for (String[] op : ops) {
+            String key = Word.keyOf(op[1]);
+            if (op[0].charAt(0) == VocJournal.DELETE) map.remove(key);
+            else if (map.containsKey(key)) map.get(key).setKor(op[2]);
+            else map.put(key, new Word(op[1], op[2]));
+        }
+        CompactVocStore out = new CompactVocStore(map.size());
+        out.addAll(map.values());
+        return out;
+    }
+
+    /* ================== 처음 쓸 때 만드는 색인 ================== */
+
+    synchronized SearchIndex search() {
+        if (search == null) search = new SearchIndex(words);
+        return search;
+    }
+
+    synchronized FuzzyIndex fuzzy() {
+        if (fuzzy == null) fuzzy = new FuzzyIndex(words);
+        return fuzzy;
+    }
+
+    synchronized WordlePool wordle() {
+        if (wordle == null) wordle = new WordlePool(words);
+        return wordle;
+    }
+
+    synchronized DistractorEngine distractors() {
+        if (distractors == null) distractors = new DistractorEngine(words);
+        return distractors;
+    }
+
+    /* ================== 공용 힌트 엔진 ================== */
+
+    // 기본 단어장의 length 글자 후보로 만든 힌트 엔진. 사용자 층의 후보가 base 그대로일 때 같이 쓴다
+    WordleSolver wordleSolver(int length) {
+        return wordleSolvers.computeIfAbsent(length, len -> new WordleSolver(wordle().candidates(len), len, 0));
+    }
+}
@@ -0,0 +1,325 @@
+package team10;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+// 단어를 Word 객체 대신 열(column) 배열에 빽빽하게 담는 저장소.
+//
+//   eng     : 영어 표제어 바이트. 보통 Latin-1 (글자당 1바이트), 0xFF 를 넘는 글자가 있는 단어만 UTF-8 (wide 비트)
+//   kor     : 뜻 UTF-8 바이트
+//   engEnd / korEnd : id 별 끝 위치 (시작 = id - 1 의 끝)
+//   keyHash : 소문자 키(Word.getKey) 해시. 표를 다시 만들거나 찾을 때 문자열을 만들지 않고 먼저 비교
+//   table   : 키 해시 → id + 1 (선형 탐사, 0 = 빈 칸)
+//
+// 단어는 0 부터 빈틈없는 int id 로 가리키고, Word 는 word(id) 를 부를 때 만든다.
+// 단어 하나에 고정으로 int 3개 + 해시 칸 1~2개만 들고, 배열 몇 개뿐이라 GC 가 따라갈 참조도 없다.
+// (Vector<Word> 는 단어마다 Word + String 2개 + byte[] 2개, 객체 헤더와 포인터만 수십 바이트)
+// 추가만 되는 단어장용이다 (지우기 없음). 쓰기는 한 스레드에서, 다 채운 뒤에는 여러 스레드가 읽어도 된다.
+//
+// freeze() 한 뒤로는 더 추가할 수 없고, 대신 소문자 키 순서의 id (sorted: 순위로 꺼내기/순위 찾기) 를 갖는다.
+// 공용 기본 단어장(BaseDictionary)이 이 상태로 쓰인다. Word 는 꺼낼 때마다 새로 만들고 들고 있지 않으므로
+// 그 위의 색인들도 id 만 들고 있으면 단어 수만큼의 Word 가 힙에 남지 않는다 (같은 단어인지는 키로 비교).
+// 바이너리 스냅샷(VocSnapshot)은 이 배열들을 그대로 쓰고 읽는다 (writeTo / readFrom).
+public class CompactVocStore {
+
+    private byte[] eng;
+    private byte[] kor;
+    private int engUsed, korUsed;
+    private int[] engEnd;
+    private int[] korEnd;
+    private int[] keyHash;
+    private long[] wide = new long[1];   // UTF-8 로 담은 영어 표제어 (비트 집합)
+    private int count;
+
+    private int[] table;
+
+    private int[] sorted;   // freeze() 뒤에만
+
+    private final List<Word> view = new WordView();
+
+    public CompactVocStore() {
+        this(1024);
+    }
+
+    public CompactVocStore(int expectedWords) {
+        int n = Math.max(16, expectedWords);
+        engEnd = new int[n];
+        korEnd = new int[n];
+        keyHash = new int[n];
+        eng = new byte[n * 8];
+        kor = new byte[n * 16];
+        table = new int[tableSizeFor(n)];
+    }
+
+    /* ================== 추가 ================== */
+
+    // 새 단어의 id. 같은 키가 이미 있으면 추가하지 않고 그 id (먼저 들어온 것이 남는다), eng 가 null 이면 -1
+    public int add(String eng, String kor) {
+        if (sorted != null) throw new IllegalStateException("freeze 된 저장소");
+        String key = Word.keyOf(eng);
+        if (key == null) return -1;
+        int h = hash(key);
+        int found = find(key, h);
+        if (found >= 0) return found;
+
+        int id = count;
+        if (id == engEnd.length) grow();
+        byte[] e = encodeEng(eng, id);
+        byte[] k = kor == null ? new byte[0] : kor.getBytes(StandardCharsets.UTF_8);
+        this.eng = ensure(this.eng, engUsed + e.length);
+        this.kor = ensure(this.kor, korUsed + k.length);
+        System.arraycopy(e, 0, this.eng, engUsed, e.length);
+        System.arraycopy(k, 0, this.kor, korUsed, k.length);
+        engUsed += e.length;
+        korUsed += k.length;
+        engEnd[id] = engUsed;
+        korEnd[id] = korUsed;
+        keyHash[id] = h;
+        count++;
+
+        if (count * 2 > table.length) rehash(table.length * 2);
+        insert(h, id);
+        return id;
+    }
+
+    public void addAll(Collection<Word> words) {
+        for (Word w : words) add(w.getEng(), w.getKor());
+    }
+
+    // 다 채운 뒤 남는 배열 공간을 돌려준다
+    public void trim() {
+        engEnd = Arrays.copyOf(engEnd, count);
+        korEnd = Arrays.copyOf(korEnd, count);
+        keyHash = Arrays.copyOf(keyHash, count);
+        eng = Arrays.copyOf(eng, engUsed);
+        kor = Arrays.copyOf(kor, korUsed);
+        wide = Arrays.copyOf(wide, (count >> 6) + 1);
+        rehash(tableSizeFor(count));
+    }
+
+    // 다 채운 뒤 한 번. 키 순서를 만들어 둔다
+    public void freeze() {
+        if (sorted != null) return;
+        trim();
+        String[] keys = new String[count];
+        Integer[] order = new Integer[count];
+        for (int id = 0; id < count; id++) {
+            keys[id] = key(id);
+            order[id] = id;
+        }
+        Arrays.parallelSort(order, (a, b) -> keys[a].compareTo(keys[b]));
+        sorted = new int[count];
+        for (int i = 0; i < count; i++) sorted[i] = order[i];
+    }
+
+    public boolean isFrozen() { return sorted != null; }
+
+    // Latin-1 로 안 되는 글자가 있으면 UTF-8 로 담고 표시해 둔다
+    private byte[] encodeEng(String s, int id) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0xFF) {
+                if ((id >> 6) >= wide.length) wide = Arrays.copyOf(wide, Math.max(wide.length * 2, (id >> 6) + 1));
+                wide[id >> 6] |= 1L << id;
+                return s.getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        return s.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private void grow() {
+        int n = engEnd.length * 2;
+        engEnd = Arrays.copyOf(engEnd, n);
+        korEnd = Arrays.copyOf(korEnd, n);
+        keyHash = Arrays.copyOf(keyHash, n);
+    }
+
+    private static byte[] ensure(byte[] a, int needed) {
+        if (needed <= a.length) return a;
+        return Arrays.copyOf(a, Math.max(needed, a.length + (a.length >> 1)));
+    }
+
+    /* ================== 조회 ================== */
+
+    public int size() { return count; }
+
+    // 대소문자/앞뒤 공백 무시, 없으면 -1
+    public int id(String eng) {
+        String key = Word.keyOf(eng);
+        return key == null ? -1 : find(key, hash(key));
+    }
+
+    public String eng(int id) {
+        check(id);
+        int from = id == 0 ? 0 : engEnd[id - 1];
+        boolean utf8 = (id >> 6) < wide.length && (wide[id >> 6] & (1L << id)) != 0;
+        return new String(eng, from, engEnd[id] - from, utf8 ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+    }
+
+    public String kor(int id) {
+        check(id);
+        int from = id == 0 ? 0 : korEnd[id - 1];
+        return new String(kor, from, korEnd[id] - from, StandardCharsets.UTF_8);
+    }
+
+    // Word.getKey() 와 같은 소문자 키 (Word 를 만들지 않는다)
+    public String key(int id) {
+        return Word.keyOf(eng(id));
+    }
+
+    // 매번 새 Word (고쳐도 저장소에는 반영되지 않는다)
+    public Word word(int id) {
+        return new Word(eng(id), kor(id));
+    }
+
+    public Word get(String eng) {
+        int id = id(eng);
+        return id < 0 ? null : word(id);
+    }
+
+    // id 순서의 읽기 전용 목록. 원소는 word(id) 로 꺼낸다
+    public List<Word> words() { return view; }
+
+    /* ================== 키 순서 (freeze 뒤) ================== */
+
+    // 소문자 키 순서로 rank 번째 단어
+    public Word sortedWord(int rank) {
+        return word(sorted[rank]);
+    }
+
+    // 소문자 키 순서로 rank 번째 단어의 id
+    public int sortedId(int rank) {
+        return sorted[rank];
+    }
+
+    // key(소문자 키) 보다 앞서는 단어 수 = key 가 들어갈 위치
+    public int rank(String key) {
+        int lo = 0, hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (key(sorted[mid]).compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // 배열이 실제로 차지하는 바이트 (객체 헤더 16 바이트씩 포함, 남는 용량도 포함)
+    public long footprintBytes() {
+        return 16L * 7 + eng.length + kor.length
+                + 4L * (engEnd.length + korEnd.length + keyHash.length + table.length) + 8L * wide.length
+                + (sorted == null ? 0 : 16 + 4L * sorted.length);
+    }
+
+    // 담긴 문자열의 바이트 수 (영어 Latin-1/UTF-8 + 뜻 UTF-8)
+    public long textBytes() {
+        return (long) engUsed + korUsed;
+    }
+
+    private void check(int id) {
+        if (id < 0 || id >= count) throw new IndexOutOfBoundsException(id + " / " + count);
+    }
+
+    /* ================== 해시 표 ================== */
+
+    private int find(String key, int h) {
+        int mask = table.length - 1;
+        for (int i = h & mask; table[i] != 0; i = (i + 1) & mask) {
+            int id = table[i] - 1;
+            if (keyHash[id] == h && key(id).equals(key)) return id;
+        }
+        return -1;
+    }
+
+    private void insert(int h, int id) {
+        int mask = table.length - 1;
+        int i = h & mask;
+        while (table[i] != 0) i = (i + 1) & mask;
+        table[i] = id + 1;
+    }
+
+    private void rehash(int size) {
+        table = new int[size];
+        for (int id = 0; id < count; id++) insert(keyHash[id], id);
+    }
+
+    private static int tableSizeFor(int n) {
+        return Integer.highestOneBit(Math.max(2, n * 2 - 1)) << 1;
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /* ================== 스냅샷 (VocSnapshot) ================== */
+
+    // writeTo 가 쓰는 바이트 수
+    long serializedBytes() {
+        return 4L * 5 + engUsed + korUsed + 4L * count * 4 + 8L * wide.length + 4L * table.length;
+    }
+
+    // freeze 한 배열을 그대로 쓴다 (단어마다 다시 인코딩하지 않음)
+    void writeTo(ByteBuffer out) {
+        if (sorted == null) throw new IllegalStateException("freeze 하지 않은 저장소");
+        out.putInt(count).putInt(engUsed).putInt(korUsed).putInt(wide.length).putInt(table.length);
+        out.put(eng, 0, engUsed).put(kor, 0, korUsed);
+        putInts(out, engEnd);
+        putInts(out, korEnd);
+        putInts(out, keyHash);
+        putInts(out, sorted);
+        out.asLongBuffer().put(wide);
+        out.position(out.position() + wide.length * 8);
+        putInts(out, table);
+    }
+
+    // writeTo 로 쓴 것을 읽어 freeze 된 저장소로. 크기가 맞지 않으면 IllegalArgumentException
+    static CompactVocStore readFrom(ByteBuffer in) {
+        int count = in.getInt(), engUsed = in.getInt(), korUsed = in.getInt();
+        int wideLongs = in.getInt(), tableSize = in.getInt();
+        long needed = (long) engUsed + korUsed + 16L * count + 8L * wideLongs + 4L * tableSize;
+        if (count < 0 || engUsed < 0 || korUsed < 0 || wideLongs < 0
+                || tableSize < 2 * count || Integer.bitCount(tableSize) != 1 || needed > in.remaining()) {
+            throw new IllegalArgumentException("크기 이상");
+        }
+        CompactVocStore s = new CompactVocStore(0);
+        s.count = count;
+        s.engUsed = engUsed;
+        s.korUsed = korUsed;
+        s.eng = new byte[engUsed];
+        s.kor = new byte[korUsed];
+        in.get(s.eng).get(s.kor);
+        s.engEnd = getInts(in, count);
+        s.korEnd = getInts(in, count);
+        s.keyHash = getInts(in, count);
+        s.sorted = getInts(in, count);
+        s.wide = new long[wideLongs];
+        in.asLongBuffer().get(s.wide);
+        in.position(in.position() + wideLongs * 8);
+        s.table = getInts(in, tableSize);
+        return s;
+    }
+
+    private static void putInts(ByteBuffer out, int[] a) {
+        out.asIntBuffer().put(a);
+        out.position(out.position() + a.length * 4);
+    }
+
+    private static int[] getInts(ByteBuffer in, int n) {
+        int[] a = new int[n];
+        in.asIntBuffer().get(a);
+        in.position(in.position() + n * 4);
+        return a;
+    }
+
+    private final class WordView extends AbstractList<Word> implements RandomAccess {
+        @Override
+        public Word get(int index) { return word(index); }
+
+        @Override
+        public int size() { return count; }
+    }
+}
@@ -0,0 +1,549 @@
+package team10;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 화면 없이 VocManager 를 HTTP 로 여는 서버 (다른 로컬 도구에서 사전을 조회하는 용도).
+// JDK 내장 HttpServer 를 127.0.0.1 에만 열고, 요청마다 가상 스레드 하나 (JDK 21 미만이면 스레드 풀).
+//
+//   java team10.DictionaryServer [사용자=Guest] [포트=8080]
+//
+//   GET    /lookup?word=apple                 단어 하나 (없으면 404 + 비슷한 단어)
+//   POST   /lookup                            본문에 한 줄에 하나씩 → 배열 (없는 단어는 null)
+//   GET    /search?q=app&limit=20
+//   POST   /words       eng=...&kor=...       추가
+//   PUT    /words       eng=...&kor=...       뜻 수정
+//   DELETE /words?eng=...                     삭제
+//   GET    /quiz?n=10&choices=4               복습할 때가 된 문제 (choices: 문제마다 객관식 보기 수, 없으면 주관식)
+//   GET    /quiz?n=10&random=1&length=5       복습 일정과 상관없이 무작위 (length: 영어 글자 수, 없으면 전부)
+//   POST   /quiz/answer eng=...&answer=...&dir=kor|eng   채점 + 복습 기록
+//   POST   /wordle      length=5              새 게임 → id (30분 동안 추측이 없으면 버림)
+//   POST   /wordle/guess id=...&guess=...     판정
+//   GET    /stats                             경로별 요청 수와 지연 시간 백분위수
+//
+// 응답은 모두 JSON (UTF-8). 매개변수는 쿼리 문자열과 form 본문 어느 쪽이든 된다.
+public class DictionaryServer {
+
+    private static final int WORDLE_MAX_ATTEMPTS = 6;
+    private static final int MAX_BODY = 1 << 20;
+    private static final int MAX_GAMES = 10_000;                   // 진행 중인 Wordle 게임 수 상한
+    private static final long GAME_IDLE_MILLIS = 30 * 60 * 1000L;  // 이만큼 추측이 없으면 버린다
+    private static final int STOP_DELAY_SECONDS = 2;               // 멈출 때 처리 중인 요청을 기다리는 최대 시간
+
+    private final VocManager manager;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Latency> latencies = new ConcurrentHashMap<>();
+    private final Map<Long, WordleGame> games = new ConcurrentHashMap<>();
+    private final AtomicLong nextGameId = new AtomicLong(1);
+    private final AtomicLong lastGameSweep = new AtomicLong();
+
+    private static final class WordleGame {
+        final Word target;
+        int attempts;
+        volatile long lastUsed = System.currentTimeMillis();
+
+        WordleGame(Word target) {
+            this.target = target;
+        }
+    }
+
+    // 잘못된 요청 → 400 / 404 등
+    private static final class HttpError extends Exception {
+        final int status;
+
+        HttpError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    // 요청 하나: 본문은 한 번만 읽어 두고, form 이면 매개변수에도 풀어 넣는다
+    private static final class Request {
+        final String method;
+        final Map<String, String> params = new HashMap<>();
+        final String body;
+
+        Request(HttpExchange ex) throws IOException, HttpError {
+            this.method = ex.getRequestMethod().toUpperCase(Locale.ROOT);
+            parseForm(ex.getRequestURI().getRawQuery(), params);
+            this.body = readBody(ex);
+            String type = ex.getRequestHeaders().getFirst("Content-Type");
+            if (type != null && type.startsWith("application/x-www-form-urlencoded")) parseForm(body, params);
+        }
+    }
+
+    private interface Endpoint {
+        String handle(Request req) throws HttpError;
+    }
+
+    static {
+        // 헤더와 본문이 따로 나가는 작은 응답이 Nagle + 지연 ACK 로 40ms 씩 묶이지 않도록 (keep-alive 연결).
+        // HttpServer 설정은 처음 쓸 때 한 번 읽히므로 서버를 만들기 전에
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    public DictionaryServer(VocManager manager, int port) throws IOException {
+        this.manager = manager;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = newRequestExecutor();
+        server.setExecutor(executor);
+
+        route("/lookup", this::lookup);
+        route("/search", this::search);
+        route("/words", this::words);
+        route("/quiz", this::quiz);
+        route("/quiz/answer", this::answer);
+        route("/wordle", this::newWordle);
+        route("/wordle/guess", this::guess);
+        route("/stats", req -> stats());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    // 새 연결을 끊고 처리 중인 요청이 끝날 때까지 기다린다. 돌아온 뒤에는 단어장을 고치는 요청이 없다
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS)) {
+                System.out.println("끝나지 않은 요청을 두고 서버를 멈춥니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() { return server.getAddress().getPort(); }
+
+    // JDK 21 이상이면 요청마다 가상 스레드, 아니면 필요할 때 늘어나는 스레드 풀
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "http-request");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /* ================== 라우팅 ================== */
+
+    private void route(String path, Endpoint endpoint) {
+        Latency latency = new Latency();
+        latencies.put(path, latency);
+        HttpHandler handler = ex -> {
+            long start = System.nanoTime();
+            int status = 200;
+            String body;
+            try {
+                // createContext 는 접두어로 잡으므로 /quiz 에 /quizzz 가 오지 않도록
+                if (!ex.getRequestURI().getPath().equals(path)) throw new HttpError(404, "없는 경로");
+                body = endpoint.handle(new Request(ex));
+            } catch (HttpError e) {
+                status = e.status;
+                body = "{\"error\":" + quote(e.getMessage()) + "}";
+            } catch (IllegalArgumentException e) {
+                // 단어장이 거절한 입력 (제어 문자 등)
+                status = 400;
+                body = "{\"error\":" + quote(String.valueOf(e.getMessage())) + "}";
+            } catch (RuntimeException e) {
+                status = 500;
+                body = "{\"error\":" + quote(String.valueOf(e.getMessage())) + "}";
+            }
+            respond(ex, status, body);
+            latency.record(System.nanoTime() - start);
+        };
+        server.createContext(path, handler);
+    }
+
+    private static void respond(HttpExchange ex, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void parseForm(String raw, Map<String, String> out) throws HttpError {
+        if (raw == null || raw.isEmpty()) return;
+        try {
+            for (String pair : raw.split("&")) {
+                int eq = pair.indexOf('=');
+                String k = eq < 0 ? pair : pair.substring(0, eq);
+                String v = eq < 0 ? "" : pair.substring(eq + 1);
+                out.put(URLDecoder.decode(k, StandardCharsets.UTF_8), URLDecoder.decode(v, StandardCharsets.UTF_8));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new HttpError(400, "잘못된 인코딩: " + e.getMessage());
+        }
+    }
+
+    private static String readBody(HttpExchange ex) throws IOException, HttpError {
+        try (InputStream in = ex.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_BODY + 1);
+            if (bytes.length > MAX_BODY) throw new HttpError(413, "본문이 너무 큽니다");
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String required(Map<String, String> params, String name) throws HttpError {
+        String v = params.get(name);
+        if (v == null || v.trim().isEmpty()) throw new HttpError(400, name + " 가 필요합니다");
+        return v.trim();
+    }
+
+    private static int intParam(Map<String, String> params, String name, int def, int min, int max) throws HttpError {
+        String v = params.get(name);
+        if (v == null || v.isEmpty()) return def;
+        try {
+            return Math.max(min, Math.min(max, Integer.parseInt(v.trim())));
+        } catch (NumberFormatException e) {
+            throw new HttpError(400, name + " 는 숫자여야 합니다");
+        }
+    }
+
+    private static boolean isTrue(String v) {
+        return v != null && (v.equals("1") || v.equalsIgnoreCase("true"));
+    }
+
+    private static void requireMethod(Request req, String method) throws HttpError {
+        if (!req.method.equals(method)) throw new HttpError(405, method + " 만 됩니다");
+    }
+
+    /* ================== 단어 ================== */
+
+    private String lookup(Request req) throws HttpError {
+        Map<String, String> params = req.params;
+        if (req.method.equals("POST")) {
+            // 일괄 조회: words=a,b,c 또는 본문에 한 줄에 하나씩
+            String raw = params.containsKey("words") ? params.get("words").replace(',', '\n') : req.body;
+            StringBuilder sb = new StringBuilder("[");
+            boolean first = true;
+            for (String line : raw.split("\n")) {
+                String eng = line.trim();
+                if (eng.isEmpty()) continue;
+                if (!first) sb.append(',');
+                first = false;
+                Word w = manager.searchWord(eng);
+                if (w == null) sb.append("null");
+                else appendWord(sb, w);
+            }
+            return sb.append(']').toString();
+        }
+        String eng = required(params, "word");
+        Word w = manager.searchWord(eng);
+        if (w == null) {
+            throw new HttpError(404, "없는 단어: " + eng + suggestionText(eng));
+        }
+        return appendWord(new StringBuilder(), w).toString();
+    }
+
+    private String suggestionText(String eng) {
+        List<Word> similar = manager.suggestWords(eng, 5);
+        if (similar.isEmpty()) return "";
+        StringBuilder sb = new StringBuilder(" (혹시: ");
+        for (int i = 0; i < similar.size(); i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(similar.get(i).getEng());
+        }
+        return sb.append(')').toString();
+    }
+
+    private String search(Request req) throws HttpError {
+        Map<String, String> params = req.params;
+        String q = required(params, "q");
+        int limit = intParam(params, "limit", 20, 1, 1000);
+        List<Word> results = manager.search(q, limit);
+        if (results.isEmpty()) results = manager.suggestWords(q, Math.min(limit, 5));
+        return wordArray(results);
+    }
+
+    private String words(Request req) throws HttpError {
+        Map<String, String> params = req.params;
+        String eng = required(params, "eng");
+        switch (req.method) {
+            case "POST": {
+                String kor = required(params, "kor");
+                Word added = manager.addWord(eng, kor);
+                if (added == null) throw new HttpError(409, "이미 있는 단어: " + eng);
+                return appendWord(new StringBuilder(), added).toString();
+            }
+            case "PUT": {
+                String kor = required(params, "kor");
+                Word edited = manager.editWord(eng, kor);
+                if (edited == null) throw new HttpError(404, "없는 단어: " + eng);
+                return appendWord(new StringBuilder(), edited).toString();
+            }
+            case "DELETE":
+                if (!manager.deleteWord(eng)) throw new HttpError(404, "없는 단어: " + eng);
+                return "{\"deleted\":" + quote(eng) + "}";
+            case "GET": {
+                Word w = manager.searchWord(eng);
+                if (w == null) throw new HttpError(404, "없는 단어: " + eng);
+                return appendWord(new StringBuilder(), w).toString();
+            }
+            default:
+                throw new HttpError(405, "GET/POST/PUT/DELETE 만 됩니다");
+        }
+    }
+
+    /* ================== 퀴즈 ================== */
+
+    private String quiz(Request req) throws HttpError {
+        Map<String, String> params = req.params;
+        int n = intParam(params, "n", 10, 1, 100);
+        int choices = intParam(params, "choices", 0, 0, 8);
+        List<Word> questions;
+        if (isTrue(params.get("random"))) {
+            int length = intParam(params, "length", 0, 0, 100);
+            questions = manager.getRandomQuestions(n, length == 0 ? null : w -> w.getKey().length() == length);
+        } else {
+            questions = manager.getReviewScheduler().next(n);
+        }
+        if (choices < 2) return wordArray(questions);
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < questions.size(); i++) {
+            if (i > 0) sb.append(',');
+            appendWord(sb, questions.get(i));
+            sb.setLength(sb.length() - 1);   // 닫는 } 를 떼고 보기를 붙인다
+            sb.append(",\"choices\":").append(wordArray(manager.multipleChoice(questions.get(i), choices))).append('}');
+        }
+        return sb.append(']').toString();
+    }
+
+    private String answer(Request req) throws HttpError {
+        Map<String, String> params = req.params;
+        requireMethod(req, "POST");
+        String eng = required(params, "eng");
+        String answer = params.getOrDefault("answer", "");
+        boolean toEng = "eng".equalsIgnoreCase(params.get("dir"));
+        Word w = manager.searchWord(eng);
+        if (w == null) throw new HttpError(404, "없는 단어: " + eng);
+        AnswerMatcher matcher = manager.getAnswerMatcher();
+        boolean correct = toEng ? matcher.matchesEng(w, answer) : matcher.matchesKor(w, answer);
+        manager.getReviewScheduler().review(w, correct);
+        return "{\"correct\":" + correct + ",\"answer\":" + quote(toEng ? w.getEng() : w.getKor()) + "}";
+    }
+
+    /* ================== Wordle ================== */
+
+    private String newWordle(Request req) throws HttpError {
+        Map<String, String> params = req.params;
+        requireMethod(req, "POST");
+        int length = intParam(params, "length", 5, WordlePool.MIN_LENGTH, WordlePool.MAX_LENGTH);
+        Word target = manager.chooseWordleTarget(length);
+        if (target == null) throw new HttpError(404, length + "글자 단어가 없습니다");
+        evictGames();
+        long id = nextGameId.getAndIncrement();
+        games.put(id, new WordleGame(target));
+        return "{\"id\":" + id + ",\"length\":" + length + ",\"maxAttempts\":" + WORDLE_MAX_ATTEMPTS + "}";
+    }
+
+    private String guess(Request req) throws HttpError {
+        Map<String, String> params = req.params;
+        requireMethod(req, "POST");
+        long id;
+        try {
+            id = Long.parseLong(required(params, "id"));
+        } catch (NumberFormatException e) {
+            throw new HttpError(400, "id 는 숫자여야 합니다");
+        }
+        WordleGame game = games.get(id);
+        if (game == null) throw new HttpError(404, "없는 게임: " + id);
+        String guess = required(params, "guess").toUpperCase(Locale.ROOT);
+        String target = game.target.getEng().toUpperCase(Locale.ROOT);
+        if (guess.length() != target.length() || !WordlePool.isCandidate(guess)) {
+            throw new HttpError(400, target.length() + "글자 영어 단어를 입력하세요");
+        }
+        int attempts;
+        boolean solved = guess.equals(target);
+        boolean over;
+        synchronized (game) {
+            if (games.get(id) != game) throw new HttpError(404, "끝난 게임: " + id);
+            attempts = ++game.attempts;
+            game.lastUsed = System.currentTimeMillis();
+            over = solved || attempts >= WORDLE_MAX_ATTEMPTS;
+            if (over) games.remove(id);   // 잠금 안에서 빼야 같은 게임의 마지막 추측이 두 번 기록되지 않는다
+        }
+        StringBuilder sb = new StringBuilder("{\"feedback\":")
+                .append(quote(VocManager.generateWordleFeedback(target, guess)))
+                .append(",\"attempt\":").append(attempts)
+                .append(",\"solved\":").append(solved)
+                .append(",\"over\":").append(over);
+        if (over) {
+            manager.recordWordleGame(solved, target, attempts, game.target.getKor());
+            sb.append(",\"answer\":").append(quote(game.target.getEng()))
+                    .append(",\"kor\":").append(quote(game.target.getKor()));
+        }
+        return sb.append('}').toString();
+    }
+
+    // 오래 쉬고 있는 게임을 버리고 (1분에 한 번만 훑는다), 그래도 상한이면 가장 오래 쉰 게임부터 버린다
+    private void evictGames() {
+        long now = System.currentTimeMillis();
+        long last = lastGameSweep.get();
+        if (now - last > 60_000 && lastGameSweep.compareAndSet(last, now)) {
+            games.values().removeIf(g -> now - g.lastUsed > GAME_IDLE_MILLIS);
+        }
+        while (games.size() >= MAX_GAMES) {
+            Map.Entry<Long, WordleGame> oldest = null;
+            for (Map.Entry<Long, WordleGame> e : games.entrySet()) {
+                if (oldest == null || e.getValue().lastUsed < oldest.getValue().lastUsed) oldest = e;
+            }
+            if (oldest == null) break;
+            games.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    /* ================== 통계 ================== */
+
+    private String stats() {
+        StringBuilder sb = new StringBuilder("{");
+        boolean first = true;
+        for (Map.Entry<String, Latency> e : latencies.entrySet()) {
+            if (!first) sb.append(',');
+            first = false;
+            sb.append(quote(e.getKey())).append(':');
+            e.getValue().appendJson(sb);
+        }
+        return sb.append('}').toString();
+    }
+
+    // 지연 시간 히스토그램: 2 의 거듭제곱 구간마다 16 칸 (오차 약 6%), 잠금 없이 기록
+    static final class Latency {
+        private static final int SUB = 16;
+        private final AtomicLongArray counts = new AtomicLongArray(64 * SUB);
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long nanos) {
+            long v = Math.max(1, nanos);
+            counts.incrementAndGet(bucket(v));
+            total.incrementAndGet();
+            long m;
+            while (v > (m = max.get()) && !max.compareAndSet(m, v)) {
+                // 다시
+            }
+        }
+
+        private static int bucket(long v) {
+            int exp = 63 - Long.numberOfLeadingZeros(v);
+            if (exp < 4) return (int) v;   // 16 ns 미만은 그대로
+            int sub = (int) (v >>> (exp - 4)) & (SUB - 1);
+            return (exp - 3) * SUB + sub;
+        }
+
+        // 구간의 위쪽 끝 값
+        private static long upper(int bucket) {
+            if (bucket < SUB) return bucket;
+            int exp = bucket / SUB + 3;
+            long sub = bucket % SUB;
+            return ((SUB + sub + 1) << (exp - 4)) - 1;
+        }
+
+        long percentile(double p) {
+            long n = total.get();
+            if (n == 0) return 0;
+            long rank = (long) Math.ceil(p * n);
+            long seen = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= rank) return Math.min(upper(i), max.get());
+            }
+            return max.get();
+        }
+
+        void appendJson(StringBuilder sb) {
+            sb.append("{\"count\":").append(total.get());
+            double[] ps = {0.5, 0.9, 0.99, 0.999};
+            String[] names = {"p50", "p90", "p99", "p999"};
+            for (int i = 0; i < ps.length; i++) {
+                sb.append(",\"").append(names[i]).append("_us\":")
+                        .append(String.format(Locale.ROOT, "%.1f", percentile(ps[i]) / 1000.0));
+            }
+            sb.append(",\"max_us\":").append(String.format(Locale.ROOT, "%.1f", max.get() / 1000.0)).append('}');
+        }
+    }
+
+    /* ================== JSON ================== */
+
+    private static String wordArray(List<Word> words) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) sb.append(',');
+            appendWord(sb, words.get(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    private static StringBuilder appendWord(StringBuilder sb, Word w) {
+        return sb.append("{\"eng\":").append(quote(w.getEng()))
+                .append(",\"kor\":").append(quote(w.getKor())).append('}');
+    }
+
+    static String quote(String s) {
+        StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /* ================== 실행 ================== */
+
+    public static void main(String[] args) throws IOException {
+        String user = args.length > 0 ? args[0] : "Guest";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+        VocManager manager = new VocManager(user);
+        DictionaryServer server = new DictionaryServer(manager, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            try {
+                manager.saveAll().join();
+            } catch (RuntimeException e) {
+                System.out.println("저장 오류: " + e.getMessage());
+            }
+            manager.close();
+        }, "server-shutdown"));
+        server.start();
+        System.out.println("사전 서버: http://127.0.0.1:" + server.getPort() + "/ (사용자 " + user + ")");
+    }
+}
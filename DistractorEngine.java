@@ -0,0 +1,311 @@
+package team10;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+// 객관식 오답 보기 생성기.
+// 단어장 전체를 복사해서 섞지 않고, 미리 만들어 둔 묶음에서 무작위 위치를 바로 뽑는다 (보기 하나에 O(1)).
+//
+//   all    : 모든 단어
+//   length : 영어 글자 수가 같은 단어끼리
+//   gloss  : 뜻(쉼표 등으로 나눈 조각)이 하나라도 겹치는 단어끼리
+//   철자   : 정렬된 단어장(SortedWordIndex)에서 바로 앞뒤 단어 (접두어가 비슷함)
+//
+// HARD 는 뜻 → 철자 → 글자 수 순서로 채우고 모자라면 아무 단어로 채운다.
+// 정답과 뜻이 똑같은 단어는 둘 다 정답이 되므로 보기로 쓰지 않는다.
+// WordlePool 과 같이 VocManager 가 단어 추가/삭제/수정 때 갱신한다.
+//
+// 층: new DistractorEngine(sorted, base) 는 공용 base 의 묶음을 그대로 읽고 (바뀌지 않으므로 잠그지 않음)
+// 사용자가 추가한 단어만 자기 묶음에 둔다. 같은 종류의 두 묶음에서는 크기에 비례해 뽑고,
+// 지운 base 단어(hidden)는 보기로 내지 않는다.
+//
+// new DistractorEngine(frozen) 은 freeze 한 CompactVocStore (공용 기본 단어장) 의 읽기 전용 엔진.
+// 묶음마다 id 배열만 들고 (all 은 배열도 없이 0..n-1), 뽑은 보기만 Word 로 만든다.
+public class DistractorEngine {
+
+    public enum Mode { RANDOM, HARD }
+
+    private static final int NEIGHBORS = 8;    // 철자 후보: 정렬 순서 앞뒤로 몇 개까지
+    private static final int ATTEMPTS = 8;     // 묶음 하나에서 보기 하나를 찾을 때 뽑아 볼 횟수
+
+    // 무작위 위치로 꺼낼 수 있는 단어 묶음
+    private abstract static class Pool {
+        abstract int size();
+        abstract Word get(int i);
+    }
+
+    // 순서 없는 묶음: 마지막 원소와 자리를 바꿔 O(1) 삭제, 무작위 선택도 O(1)
+    private static final class Bucket extends Pool {
+        final ArrayList<Word> words = new ArrayList<>();
+        final HashMap<String, Integer> positions = new HashMap<>();
+
+        void add(Word w) {
+            if (positions.containsKey(w.getKey())) return;
+            positions.put(w.getKey(), words.size());
+            words.add(w);
+        }
+
+        void remove(Word w) {
+            Integer pos = positions.remove(w.getKey());
+            if (pos == null) return;
+            Word last = words.remove(words.size() - 1);
+            if (pos < words.size()) {
+                words.set(pos, last);
+                positions.put(last.getKey(), pos);
+            }
+        }
+
+        @Override
+        int size() { return words.size(); }
+
+        @Override
+        Word get(int i) { return words.get(i); }
+    }
+
+    // 읽기 전용 묶음: 저장소 id 들 (ids 가 null 이면 모든 id)
+    private static final class IdPool extends Pool {
+        final CompactVocStore store;
+        final int[] ids;
+
+        IdPool(CompactVocStore store, int[] ids) {
+            this.store = store;
+            this.ids = ids;
+        }
+
+        @Override
+        int size() { return ids == null ? store.size() : ids.length; }
+
+        @Override
+        Word get(int i) { return store.word(ids == null ? i : ids[i]); }
+    }
+
+    private static final Bucket EMPTY = new Bucket();
+
+    private final SortedWordIndex sorted;
+    private final Bucket all = new Bucket();
+    private final HashMap<Integer, Bucket> byLength = new HashMap<>();
+    private final HashMap<String, Bucket> byGloss = new HashMap<>();
+    private final HashMap<String, List<String>> glossOf = new HashMap<>();   // 키 → 색인할 때의 뜻 조각
+
+    private final DistractorEngine base;   // null 이면 단독
+    private final HashSet<String> hidden = new HashSet<>();   // 지워진 base 단어의 키
+
+    private final CompactVocStore frozen;   // null 이 아니면 읽기 전용
+    private final HashMap<Integer, int[]> frozenByLength = new HashMap<>();
+    private final HashMap<String, int[]> frozenByGloss = new HashMap<>();
+
+    public DistractorEngine(SortedWordIndex sorted) {
+        this(sorted, null);
+    }
+
+    // sorted: 이 층에서 보이는 정렬 단어장, base: 이후 바뀌지 않는 공용 엔진
+    public DistractorEngine(SortedWordIndex sorted, DistractorEngine base) {
+        this.sorted = sorted;
+        this.base = base;
+        this.frozen = null;
+    }
+
+    // frozen.freeze() 한 뒤여야 한다. 추가/삭제는 UnsupportedOperationException
+    public DistractorEngine(CompactVocStore frozen) {
+        this.sorted = new SortedWordIndex(frozen);
+        this.base = null;
+        this.frozen = frozen;
+        int n = frozen.size();
+        int[] lengths = new int[n];
+        List<List<String>> glosses = new ArrayList<>(n);
+        HashMap<Integer, int[]> lengthCounts = new HashMap<>();
+        HashMap<String, int[]> glossCounts = new HashMap<>();
+        for (int id = 0; id < n; id++) {
+            lengths[id] = frozen.key(id).length();
+            lengthCounts.computeIfAbsent(lengths[id], k -> new int[1])[0]++;
+            List<String> gloss = glossTokens(frozen.kor(id));
+            glosses.add(gloss);
+            for (String g : gloss) glossCounts.computeIfAbsent(g, k -> new int[1])[0]++;
+        }
+        // 개수대로 배열을 잡고, 센 값은 채울 위치로 다시 쓴다
+        lengthCounts.forEach((len, c) -> { frozenByLength.put(len, new int[c[0]]); c[0] = 0; });
+        glossCounts.forEach((g, c) -> { frozenByGloss.put(g, new int[c[0]]); c[0] = 0; });
+        for (int id = 0; id < n; id++) {
+            frozenByLength.get(lengths[id])[lengthCounts.get(lengths[id])[0]++] = id;
+            for (String g : glosses.get(id)) frozenByGloss.get(g)[glossCounts.get(g)[0]++] = id;
+            glosses.set(id, null);
+        }
+    }
+
+    /* ================== 갱신 ================== */
+
+    public synchronized void addAll(Collection<Word> words) {
+        for (Word w : words) add(w);
+    }
+
+    public synchronized void add(Word w) {
+        readOnlyCheck();
+        if (w.getKey() == null || glossOf.containsKey(w.getKey()) || inBase(w.getKey())) return;
+        all.add(w);
+        byLength.computeIfAbsent(w.getKey().length(), k -> new Bucket()).add(w);
+        List<String> gloss = glossTokens(w.getKor());
+        glossOf.put(w.getKey(), gloss);
+        for (String g : gloss) byGloss.computeIfAbsent(g, k -> new Bucket()).add(w);
+    }
+
+    public synchronized void remove(Word w) {
+        readOnlyCheck();
+        List<String> gloss = glossOf.remove(w.getKey());
+        if (gloss == null) {
+            if (inBase(w.getKey())) hidden.add(w.getKey());
+            return;
+        }
+        all.remove(w);
+        removeFrom(byLength, w.getKey().length(), w);
+        for (String g : gloss) removeFrom(byGloss, g, w);
+    }
+
+    // 뜻이 바뀐 경우 (옛 뜻 조각은 glossOf 에 남아 있다)
+    public synchronized void update(Word w) {
+        remove(w);
+        add(w);
+    }
+
+    public synchronized int size() {
+        return base == null ? allPool().size() : all.size() + base.allPool().size() - hidden.size();
+    }
+
+    // 가려지지 않은 base 단어인지
+    private boolean inBase(String key) {
+        return base != null && !hidden.contains(key) && base.indexedGloss(key) != null;
+    }
+
+    // 이 엔진에 들어 있는 단어의 뜻 조각, 없는 단어면 null
+    private List<String> indexedGloss(String key) {
+        if (frozen == null) return glossOf.get(key);
+        int id = frozen.id(key);
+        return id < 0 ? null : glossTokens(frozen.kor(id));
+    }
+
+    // 이 엔진 자신의 묶음 (읽기 전용이면 id 묶음). 글자 수/뜻 묶음은 없으면 null
+    private Pool allPool() {
+        return frozen != null ? new IdPool(frozen, null) : all;
+    }
+
+    private Pool lengthPool(int length) {
+        if (frozen == null) return byLength.get(length);
+        int[] ids = frozenByLength.get(length);
+        return ids == null ? null : new IdPool(frozen, ids);
+    }
+
+    private Pool glossPool(String gloss) {
+        if (frozen == null) return byGloss.get(gloss);
+        int[] ids = frozenByGloss.get(gloss);
+        return ids == null ? null : new IdPool(frozen, ids);
+    }
+
+    private void readOnlyCheck() {
+        if (frozen != null) throw new UnsupportedOperationException("읽기 전용 엔진");
+    }
+
+    private static <K> void removeFrom(HashMap<K, Bucket> map, K key, Word w) {
+        Bucket b = map.get(key);
+        if (b == null) return;
+        b.remove(w);
+        if (b.words.isEmpty()) map.remove(key);
+    }
+
+    // "사과, 사과나무 / 능금" → [사과, 사과나무, 능금]
+    static List<String> glossTokens(String kor) {
+        List<String> out = new ArrayList<>(2);
+        if (kor == null) return out;
+        for (String part : kor.split("[,;/()\\[\\]·]")) {
+            String t = part.trim().toLowerCase(Locale.ROOT);
+            if (!t.isEmpty() && !out.contains(t)) out.add(t);
+        }
+        return out;
+    }
+
+    /* ================== 보기 뽑기 ================== */
+
+    // answer 를 뺀 서로 다른 오답 count 개 (단어가 모자라면 그보다 적을 수 있음)
+    public synchronized List<Word> pick(Word answer, int count, Mode mode, Random rand) {
+        List<Word> out = new ArrayList<>(count);
+        HashSet<String> used = new HashSet<>();
+        used.add(answer.getKey());
+        String answerKor = normalizeKor(answer.getKor());
+
+        if (mode == Mode.HARD) {
+            for (String g : glossOf(answer)) {
+                fill(out, count, glossPool(g), base == null ? null : base.glossPool(g), used, answerKor, rand);
+            }
+            fillNeighbors(out, count, answer, used, answerKor, rand);
+            int len = answer.getKey().length();
+            fill(out, count, lengthPool(len), base == null ? null : base.lengthPool(len), used, answerKor, rand);
+        }
+        fill(out, count, allPool(), base == null ? null : base.allPool(), used, answerKor, rand);
+        if (out.size() < count) fillScan(out, count, used, answerKor);
+        return out;
+    }
+
+    private List<String> glossOf(Word answer) {
+        List<String> gloss = indexedGloss(answer.getKey());
+        if (gloss == null && base != null) gloss = base.indexedGloss(answer.getKey());
+        return gloss != null ? gloss : glossTokens(answer.getKor());
+    }
+
+    // 두 묶음(자기 것, base 것)을 합친 것에서 무작위로 몇 번 뽑아 본다 (묶음이 작아 겹치기만 하면 다음 단계로)
+    private void fill(List<Word> out, int count, Pool own, Pool shared, HashSet<String> used,
+                      String answerKor, Random rand) {
+        if (own == null) own = EMPTY;
+        if (shared == null) shared = EMPTY;
+        int total = own.size() + shared.size();
+        int tries = ATTEMPTS * (count - out.size());
+        while (out.size() < count && tries-- > 0 && total > 0) {
+            int i = rand.nextInt(total);
+            Word w = i < own.size() ? own.get(i) : shared.get(i - own.size());
+            if (i >= own.size() && hidden.contains(w.getKey())) continue;
+            offer(out, w, used, answerKor);
+        }
+    }
+
+    // 정렬 순서에서 정답 앞뒤 NEIGHBORS 개 중 무작위로
+    private void fillNeighbors(List<Word> out, int count, Word answer, HashSet<String> used,
+                               String answerKor, Random rand) {
+        if (out.size() >= count) return;
+        int n = sorted.size();
+        if (n == 0) return;
+        int at = sorted.rank(answer.getEng());
+        int from = Math.max(0, at - NEIGHBORS);
+        int to = Math.min(n, at + NEIGHBORS + 1);
+        for (Word w : WordSampler.sample(to - from, i -> sorted.get(from + i), to - from, null, rand)) {
+            if (out.size() >= count) break;
+            offer(out, w, used, answerKor);
+        }
+    }
+
+    // 거의 모든 단어의 뜻이 정답과 같을 때만 온다
+    private void fillScan(List<Word> out, int count, HashSet<String> used, String answerKor) {
+        Pool own = allPool();
+        for (int i = 0; i < own.size(); i++) {
+            if (out.size() >= count) return;
+            offer(out, own.get(i), used, answerKor);
+        }
+        if (base == null) return;
+        Pool shared = base.allPool();
+        for (int i = 0; i < shared.size(); i++) {
+            if (out.size() >= count) return;
+            Word w = shared.get(i);
+            if (!hidden.contains(w.getKey())) offer(out, w, used, answerKor);
+        }
+    }
+
+    private static void offer(List<Word> out, Word w, HashSet<String> used, String answerKor) {
+        if (normalizeKor(w.getKor()).equals(answerKor)) return;
+        if (used.add(w.getKey())) out.add(w);
+    }
+
+    private static String normalizeKor(String kor) {
+        return kor == null ? "" : kor.trim().toLowerCase(Locale.ROOT);
+    }
+}
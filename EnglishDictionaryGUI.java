@@ -2,19 +2,24 @@ package team10;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.Comparator;
-import java.util.Vector;
+import java.util.List;
+import java.util.concurrent.CompletionException;
 
 public class EnglishDictionaryGUI extends JFrame {
 
+    private static final int SEARCH_LIMIT = 1000;
+    private static final int SEARCH_DELAY_MS = 150;
+
     private final VocManager manager;
 
-    private DefaultListModel<String> listModel;
-    private JList<String> wordList;
+    private WordListModel listModel;
+    private JList<Word> wordList;
     private JTextArea meaningArea;
     private JTextField searchField;
     private JLabel userLabel;
     private JLabel wrongLabel;
+    private JLabel searchTimeLabel;
+    private LiveSearch liveSearch;
 
     public EnglishDictionaryGUI(String userName) {
         super("English Dictionary - Team10");
@@ -59,6 +64,8 @@ public class EnglishDictionaryGUI extends JFrame {
         JMenuItem wrongNoteQuizItem = new JMenuItem("10) Written from Wrong Note");
         JMenuItem wordleItem = new JMenuItem("12) Wordle Game");
         JMenuItem wordleArchiveItem = new JMenuItem("Wordle Archive");
+        JMenuItem importItem = new JMenuItem("Import (txt)");
+        JMenuItem exportItem = new JMenuItem("Export (txt)");
         JMenuItem exitItem = new JMenuItem("Exit (Save & Close)");
 
         addItem.addActionListener(e -> onAdd());
@@ -72,6 +79,8 @@ public class EnglishDictionaryGUI extends JFrame {
                 e -> manager.wrongNoteQuizSwing(this, meaningArea));
         wordleItem.addActionListener(e -> new WordleFrame(this, manager));
         wordleArchiveItem.addActionListener(e -> showWordleArchive());
+        importItem.addActionListener(e -> onImport());
+        exportItem.addActionListener(e -> onExport());
         exitItem.addActionListener(e -> exitApp());
 
         menu.add(addItem);
@@ -85,6 +94,9 @@ public class EnglishDictionaryGUI extends JFrame {
         menu.add(wordleItem);
         menu.add(wordleArchiveItem);
         menu.addSeparator();
+        menu.add(importItem);
+        menu.add(exportItem);
+        menu.addSeparator();
         menu.add(exitItem);
 
         mb.add(menu);
@@ -96,7 +108,10 @@ public class EnglishDictionaryGUI extends JFrame {
         JPanel top = new JPanel(new BorderLayout());
         searchField = new JTextField();
         JButton searchButton = new JButton("검색");
-        searchButton.addActionListener(e -> doSearch());
+        liveSearch = new LiveSearch(searchField, manager, SEARCH_LIMIT, SEARCH_DELAY_MS,
+                this::showSearchResults);
+        searchButton.addActionListener(e -> liveSearch.searchNow());
+        searchField.addActionListener(e -> liveSearch.searchNow());
         top.add(new JLabel(" Search: "), BorderLayout.WEST);
         top.add(searchField, BorderLayout.CENTER);
         top.add(searchButton, BorderLayout.EAST);
@@ -108,9 +123,19 @@ public class EnglishDictionaryGUI extends JFrame {
         JSplitPane split = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT);
         split.setResizeWeight(0.3);
 
-        listModel = new DefaultListModel<>();
+        listModel = new WordListModel(manager);
         wordList = new JList<>(listModel);
         wordList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        // 고정 셀 높이: JList 가 모든 항목을 렌더링해서 크기를 재지 않도록
+        wordList.setPrototypeCellValue(new Word("MMMMMMMMMMMMMMMMMMMM", ""));
+        wordList.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                Object text = value instanceof Word ? ((Word) value).getEng() : value;
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
         wordList.addListSelectionListener(e -> showSelectedWord());
         JScrollPane listScroll = new JScrollPane(wordList);
         split.setLeftComponent(listScroll);
@@ -127,23 +152,21 @@ public class EnglishDictionaryGUI extends JFrame {
 
     /* -------- STATUS BAR -------- */
     private void createStatusBar() {
-        JPanel status = new JPanel(new GridLayout(1, 2));
+        JPanel status = new JPanel(new GridLayout(1, 3));
         userLabel = new JLabel();
         wrongLabel = new JLabel();
+        searchTimeLabel = new JLabel();
         status.add(userLabel);
         status.add(wrongLabel);
+        status.add(searchTimeLabel);
         add(status, BorderLayout.SOUTH);
     }
 
     /* -------- View helpers -------- */
+    // 목록 자체는 WordListModel 이 단어장 변경을 따라가므로 여기서는 검색 필터만 해제
     private void refreshWordList() {
-        listModel.clear();
-        Vector<Word> copy = new Vector<>(manager.getVoc());
-        copy.sort(Comparator.comparing(w -> w.getEng().toLowerCase()));
-        for (Word w : copy) {
-            listModel.addElement(w.getEng());
-        }
-        if (!listModel.isEmpty()) {
+        listModel.clearFilter();
+        if (listModel.getSize() > 0) {
             wordList.setSelectedIndex(0);
         } else {
             meaningArea.setText("");
@@ -156,12 +179,7 @@ public class EnglishDictionaryGUI extends JFrame {
     }
 
     private void showSelectedWord() {
-        String eng = wordList.getSelectedValue();
-        if (eng == null) {
-            meaningArea.setText("");
-            return;
-        }
-        Word w = manager.searchWord(eng);
+        Word w = wordList.getSelectedValue();
         if (w != null) {
             meaningArea.setText(w.getEng() + " :\n" + w.getKor());
         } else {
@@ -169,20 +187,27 @@ public class EnglishDictionaryGUI extends JFrame {
         }
     }
 
-    private void doSearch() {
-        String keyword = searchField.getText().trim().toLowerCase();
+    // LiveSearch 가 EDT 에서 호출: 결과 리스트로 모델을 한 번에 교체한다
+    private void showSearchResults(String keyword, List<Word> results, List<Word> suggestions,
+                                   long latencyNanos) {
         if (keyword.isEmpty()) {
+            searchTimeLabel.setText("");
             refreshWordList();
             return;
         }
-        listModel.clear();
-        for (Word w : manager.getVoc()) {
-            if (w.getEng().toLowerCase().contains(keyword) ||
-                    w.getKor().toLowerCase().contains(keyword)) {
-                listModel.addElement(w.getEng());
-            }
+        searchTimeLabel.setText("Search: " + results.size() + "건, "
+                + LiveSearch.formatLatency(latencyNanos));
+        if (results.isEmpty() && !suggestions.isEmpty()) {
+            // 오타로 보고 비슷한 단어를 목록에 보여 준다 (선택은 사용자가)
+            listModel.setFilter(suggestions);
+            StringBuilder sb = new StringBuilder("검색 결과가 없습니다. 혹시 이 단어인가요?\n");
+            for (Word w : suggestions) sb.append("  ").append(w.getEng()).append('\n');
+            meaningArea.setText(sb.toString());
+            return;
         }
-        if (!listModel.isEmpty()) wordList.setSelectedIndex(0);
+        listModel.setFilter(results);
+
+        if (listModel.getSize() > 0) wordList.setSelectedIndex(0);
         else meaningArea.setText("검색 결과가 없습니다.");
     }
 
@@ -196,14 +221,19 @@ public class EnglishDictionaryGUI extends JFrame {
         }
         String kor = JOptionPane.showInputDialog(this, "뜻(한국어):");
         if (kor == null || kor.trim().isEmpty()) return;
+        if (!VocManager.isValidText(eng.trim()) || !VocManager.isValidText(kor.trim())) {
+            JOptionPane.showMessageDialog(this, "탭이나 줄바꿈 같은 제어 문자는 넣을 수 없습니다.");
+            return;
+        }
         manager.addWord(eng.trim(), kor.trim());
-        manager.saveVocToFile();
-        refreshWordList();
+        listModel.clearFilter();
+        wordList.setSelectedValue(manager.searchWord(eng.trim()), true);
         updateUserInfo();
     }
 
     private void onEdit() {
-        String eng = wordList.getSelectedValue();
+        Word selected = wordList.getSelectedValue();
+        String eng = selected != null ? selected.getEng() : null;
         if (eng == null) {
             eng = JOptionPane.showInputDialog(this, "수정할 영어 단어:");
             if (eng == null || eng.trim().isEmpty()) return;
@@ -216,14 +246,18 @@ public class EnglishDictionaryGUI extends JFrame {
         String newKor = JOptionPane.showInputDialog(this,
                 "새 뜻(한국어):", w.getKor());
         if (newKor == null || newKor.trim().isEmpty()) return;
+        if (!VocManager.isValidText(newKor.trim())) {
+            JOptionPane.showMessageDialog(this, "탭이나 줄바꿈 같은 제어 문자는 넣을 수 없습니다.");
+            return;
+        }
         manager.editWord(w.getEng(), newKor.trim());
-        manager.saveVocToFile();
-        refreshWordList();
+        showSelectedWord();
         updateUserInfo();
     }
 
     private void onDelete() {
-        String eng = wordList.getSelectedValue();
+        Word selected = wordList.getSelectedValue();
+        String eng = selected != null ? selected.getEng() : null;
         if (eng == null) {
             eng = JOptionPane.showInputDialog(this, "삭제할 영어 단어:");
             if (eng == null || eng.trim().isEmpty()) return;
@@ -237,30 +271,60 @@ public class EnglishDictionaryGUI extends JFrame {
         if (!manager.deleteWord(eng.trim())) {
             JOptionPane.showMessageDialog(this, "단어를 찾을 수 없습니다.");
         } else {
-            manager.saveVocToFile();
-            refreshWordList();
+            if (wordList.isSelectionEmpty()) meaningArea.setText("");
             updateUserInfo();
         }
     }
 
-    /* -------- Wordle Archive -------- */
-    private void showWordleArchive() {
-        String log = manager.loadWordleLog();
+    /* -------- Import / Export (텍스트 단어장) -------- */
+    private void onImport() {
+        JFileChooser chooser = new JFileChooser(".");
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            int added = manager.importText(chooser.getSelectedFile());
+            updateUserInfo();
+            JOptionPane.showMessageDialog(this, added + "개 단어를 가져왔습니다.");
+        } catch (java.io.IOException ex) {
+            JOptionPane.showMessageDialog(this, "가져오기 오류: " + ex.getMessage());
+        }
+    }
 
-        JTextArea area = new JTextArea(log, 15, 40);
-        area.setEditable(false);
-        area.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
-        JScrollPane scroll = new JScrollPane(area);
+    private void onExport() {
+        JFileChooser chooser = new JFileChooser(".");
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            manager.exportText(chooser.getSelectedFile());
+            JOptionPane.showMessageDialog(this, "내보내기 완료: " + chooser.getSelectedFile().getName());
+        } catch (java.io.IOException ex) {
+            JOptionPane.showMessageDialog(this, "내보내기 오류: " + ex.getMessage());
+        }
+    }
 
-        JOptionPane.showMessageDialog(this, scroll,
-                "Wordle Archive - " + manager.getUserName(),
-                JOptionPane.INFORMATION_MESSAGE);
+    /* -------- Wordle Archive -------- */
+    private void showWordleArchive() {
+        new WordleArchiveDialog(this, manager).setVisible(true);
     }
 
     /* -------- Exit -------- */
     private void exitApp() {
-        manager.saveAll();
+        if (!saveBeforeExit(this, manager)) return;
+        liveSearch.dispose();
+        manager.close();
         dispose();
         System.exit(0);
     }
+
+    // 저장이 끝날 때까지 기다린다. 실패하면 그래도 끝낼지 묻고, 취소하면 false
+    private static boolean saveBeforeExit(Component parent, VocManager manager) {
+        try {
+            manager.saveAll().join();
+            return true;
+        } catch (CompletionException e) {
+            int answer = JOptionPane.showConfirmDialog(parent,
+                    "저장 중 오류가 발생했습니다.\n" + e.getCause().getMessage()
+                            + "\n저장하지 않고 종료할까요?",
+                    "Exit", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+            return answer == JOptionPane.YES_OPTION;
+        }
+    }
 }
@@ -0,0 +1,376 @@
+package team10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+// 오타 교정용 색인 ("혹시 이 단어?"). SymSpell 방식의 삭제 색인:
+// 단어마다 앞 PREFIX 글자에서 0~MAX_DISTANCE 글자를 지운 변형들을 미리 색인해 두고,
+// 검색어도 같은 방식으로 지워 본 뒤 변형이 겹치는 단어만 실제 편집 거리(인접 글자 바꿈 포함)로 확인한다.
+// 단어 수와 상관없이 검색어 하나에 변형 29개 정도만 찾아보면 된다.
+//
+// 변형 문자열 자체는 저장하지 않고 64비트 해시만 둔다 (충돌은 편집 거리 확인에서 걸러짐).
+// 해시 → 단어 목록은 배열 기반 연결 리스트라 단어 추가/삭제 때 그 단어의 변형만 고친다.
+//
+// 층: new FuzzyIndex(base) 는 공용 base 위에 사용자가 추가한 단어만 색인하고, 지운 base 단어는 hidden 으로 뺀다.
+// 검색에 쓰는 작업 배열은 스레드마다 따로 두므로, 층은 바뀌지 않는 base 를 잠금 없이 unlocked* 로 읽는다.
+//
+// new FuzzyIndex(frozen) 은 freeze 한 CompactVocStore (공용 기본 단어장) 의 읽기 전용 색인.
+// 단어 번호로 저장소의 id 를 그대로 쓰므로 Word 배열과 키 → 번호 맵이 없고, 후보의 키만 저장소에서 푼다.
+public class FuzzyIndex {
+
+    public static final int MAX_DISTANCE = 2;
+    private static final int PREFIX = 7;
+    private static final int MIN_SLOTS = 64;   // 사용자 층은 대부분 비어 있으므로 작게 시작
+
+    // 해시 표 (선형 탐사). 키 0 = 빈 칸, head -1 = 목록 없음
+    private long[] slotKeys = new long[MIN_SLOTS];
+    private int[] slotHeads = new int[MIN_SLOTS];
+    private int slotsUsed;
+
+    // 목록 노드: 단어 번호와 다음 노드. 지운 노드는 nodeNext 로 이어진 빈 목록에 둔다
+    private int[] nodeWord = new int[MIN_SLOTS];
+    private int[] nodeNext = new int[MIN_SLOTS];
+    private int nodeCount;
+    private int freeNode = -1;
+
+    private Word[] words = new Word[64];
+    private final HashMap<String, Integer> ids = new HashMap<>();
+    private final ArrayList<Integer> freeIds = new ArrayList<>();
+
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    private final FuzzyIndex base;   // null 이면 단독 색인
+    private final HashSet<String> hidden = new HashSet<>();   // 지워진 base 단어의 키
+    private final CompactVocStore frozen;   // null 이 아니면 읽기 전용
+
+    // 스레드별 작업 배열
+    private static final class Scratch {
+        final long[] deletes = new long[64];
+        int[] seen = new int[64];   // 검색 한 번에 같은 단어를 두 번 확인하지 않도록
+        int stamp;
+        int[] prevRow = new int[32];
+        int[] curRow = new int[32];
+        int[] prev2Row = new int[32];
+    }
+
+    private static final class Match {
+        final Word word;
+        final int distance;
+
+        Match(Word word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+    }
+
+    public FuzzyIndex() {
+        this((FuzzyIndex) null);
+    }
+
+    // base 는 이후 바뀌지 않아야 한다
+    public FuzzyIndex(FuzzyIndex base) {
+        this.base = base;
+        this.frozen = null;
+    }
+
+    // frozen.freeze() 한 뒤여야 한다. 추가/삭제는 UnsupportedOperationException
+    public FuzzyIndex(CompactVocStore frozen) {
+        if (!frozen.isFrozen()) throw new IllegalArgumentException("freeze 하지 않은 저장소");
+        this.base = null;
+        this.frozen = frozen;
+        long[] deletes = scratch.get().deletes;
+        for (int id = 0; id < frozen.size(); id++) {
+            String key = frozen.key(id);
+            if (key.isEmpty()) continue;
+            int n = deletes(key, deletes);
+            for (int i = 0; i < n; i++) link(deletes[i], id);
+        }
+        // 다시 늘어날 일이 없으므로 남는 용량을 돌려준다
+        nodeWord = Arrays.copyOf(nodeWord, nodeCount);
+        nodeNext = Arrays.copyOf(nodeNext, nodeCount);
+    }
+
+    /* ================== 갱신 ================== */
+
+    public synchronized void addAll(Collection<Word> ws) {
+        for (Word w : ws) add(w);
+    }
+
+    public synchronized void add(Word w) {
+        readOnlyCheck();
+        String key = w.getKey();
+        if (key == null || key.isEmpty() || ids.containsKey(key) || inBase(key)) return;
+        int id = freeIds.isEmpty() ? ids.size() : freeIds.remove(freeIds.size() - 1);
+        if (id >= words.length) words = Arrays.copyOf(words, words.length * 2);
+        words[id] = w;
+        ids.put(key, id);
+        long[] deletes = scratch.get().deletes;
+        int n = deletes(key, deletes);
+        for (int i = 0; i < n; i++) link(deletes[i], id);
+    }
+
+    public synchronized void remove(Word w) {
+        readOnlyCheck();
+        Integer id = ids.remove(w.getKey());
+        if (id == null) {
+            if (inBase(w.getKey())) hidden.add(w.getKey());
+            return;
+        }
+        long[] deletes = scratch.get().deletes;
+        int n = deletes(w.getKey(), deletes);
+        for (int i = 0; i < n; i++) unlink(deletes[i], id);
+        words[id] = null;
+        freeIds.add(id);
+    }
+
+    public synchronized int size() {
+        return unlockedSize();
+    }
+
+    private int unlockedSize() {
+        if (frozen != null) return frozen.size();
+        return base == null ? ids.size() : ids.size() + base.unlockedSize() - hidden.size();
+    }
+
+    // 가려지지 않은 base 단어인지 (base 는 바뀌지 않으므로 잠그지 않고 읽는다)
+    private boolean inBase(String key) {
+        return base != null && !hidden.contains(key) && base.indexed(key);
+    }
+
+    private boolean indexed(String key) {
+        return frozen != null ? !key.isEmpty() && frozen.id(key) >= 0 : ids.containsKey(key);
+    }
+
+    private void readOnlyCheck() {
+        if (frozen != null) throw new UnsupportedOperationException("읽기 전용 색인");
+    }
+
+    /* ================== 검색 ================== */
+
+    // 편집 거리 MAX_DISTANCE 이내의 단어를 가까운 순으로 최대 limit 개 (같으면 길이 차이, 알파벳 순)
+    public synchronized List<Word> suggest(String text, int limit) {
+        String q = Word.keyOf(text);
+        if (q == null || q.isEmpty() || limit <= 0) return new ArrayList<>();
+        return unlockedSuggest(q, limit);
+    }
+
+    // q: 소문자 키
+    private List<Word> unlockedSuggest(String q, int limit) {
+        Scratch sc = scratch.get();
+        List<Match> matches = matches(q, sc);
+        if (base != null) {
+            // base 후보 중 가려진 것을 빼고도 limit 개가 되도록, 모자라면 더 받아 온다
+            for (int want = limit; ; want *= 2) {
+                List<Word> found = base.unlockedSuggest(q, want);
+                List<Match> kept = new ArrayList<>(found.size());
+                for (Word w : found) {
+                    if (!hidden.contains(w.getKey())) kept.add(new Match(w, distance(q, w.getKey(), MAX_DISTANCE, sc)));
+                }
+                if (kept.size() >= limit || found.size() < want) {
+                    matches.addAll(kept);
+                    break;
+                }
+            }
+        }
+        matches.sort(Comparator.<Match>comparingInt(m -> m.distance)
+                .thenComparingInt(m -> Math.abs(m.word.getKey().length() - q.length()))
+                .thenComparing(m -> m.word.getKey()));
+        List<Word> out = new ArrayList<>();
+        for (int i = 0; i < matches.size() && i < limit; i++) out.add(matches.get(i).word);
+        return out;
+    }
+
+    // 자기 색인에서 편집 거리 MAX_DISTANCE 이내인 단어들 (순서 없음)
+    private List<Match> matches(String q, Scratch sc) {
+        List<Match> matches = new ArrayList<>();
+        if (frozen == null ? ids.isEmpty() : frozen.size() == 0) return matches;
+
+        int idLimit = frozen == null ? words.length : frozen.size();
+        if (sc.seen.length < idLimit) {
+            sc.seen = new int[idLimit];
+            sc.stamp = 0;
+        }
+        if (++sc.stamp == 0) {
+            Arrays.fill(sc.seen, 0);
+            sc.stamp = 1;
+        }
+        int[] seen = sc.seen;
+        int stamp = sc.stamp;
+        long[] deletes = sc.deletes;
+        int n = deletes(q, deletes);
+        for (int i = 0; i < n; i++) {
+            int slot = find(deletes[i]);
+            if (slot < 0) continue;
+            for (int node = slotHeads[slot]; node >= 0; node = nodeNext[node]) {
+                int id = nodeWord[node];
+                if (seen[id] == stamp) continue;
+                seen[id] = stamp;
+                if (frozen != null) {
+                    // Word 는 실제로 가까운 단어만 만든다
+                    int d = distance(q, frozen.key(id), MAX_DISTANCE, sc);
+                    if (d <= MAX_DISTANCE) matches.add(new Match(frozen.word(id), d));
+                    continue;
+                }
+                Word w = words[id];
+                int d = distance(q, w.getKey(), MAX_DISTANCE, sc);
+                if (d <= MAX_DISTANCE) matches.add(new Match(w, d));
+            }
+        }
+        return matches;
+    }
+
+    // 제한 거리가 있는 편집 거리 (삽입/삭제/치환/인접 글자 바꿈). max 를 넘으면 max + 1
+    int distance(String a, String b, int max) {
+        return distance(a, b, max, scratch.get());
+    }
+
+    private static int distance(String a, String b, int max, Scratch sc) {
+        int la = a.length(), lb = b.length();
+        if (Math.abs(la - lb) > max) return max + 1;
+        if (lb + 1 > sc.curRow.length) {
+            sc.prevRow = new int[lb + 1];
+            sc.curRow = new int[lb + 1];
+            sc.prev2Row = new int[lb + 1];
+        }
+        int[] prev2 = sc.prev2Row, prev = sc.prevRow, cur = sc.curRow;
+        for (int j = 0; j <= lb; j++) prev[j] = j;
+        for (int i = 1; i <= la; i++) {
+            cur[0] = i;
+            int rowMin = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= lb; j++) {
+                char cb = b.charAt(j - 1);
+                int v = Math.min(Math.min(prev[j] + 1, cur[j - 1] + 1), prev[j - 1] + (ca == cb ? 0 : 1));
+                if (i > 1 && j > 1 && ca == b.charAt(j - 2) && a.charAt(i - 2) == cb) {
+                    v = Math.min(v, prev2[j - 2] + 1);
+                }
+                cur[j] = v;
+                if (v < rowMin) rowMin = v;
+            }
+            if (rowMin > max) return max + 1;
+            int[] t = prev2;
+            prev2 = prev;
+            prev = cur;
+            cur = t;
+        }
+        return Math.min(prev[lb], max + 1);
+    }
+
+    /* ================== 삭제 변형 ================== */
+
+    // key 의 앞 PREFIX 글자에서 0~2 글자를 지운 변형들의 해시를 deletes 에 (중복 제거). 개수를 돌려준다
+    private static int deletes(String key, long[] deletes) {
+        int len = Math.min(PREFIX, key.length());
+        int n = 0;
+        deletes[n++] = hash(key, len, -1, -1);
+        for (int i = 0; i < len; i++) {
+            deletes[n++] = hash(key, len, i, -1);
+            for (int j = i + 1; j < len; j++) deletes[n++] = hash(key, len, i, j);
+        }
+        Arrays.sort(deletes, 0, n);
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (m == 0 || deletes[m - 1] != deletes[i]) deletes[m++] = deletes[i];
+        }
+        return m;
+    }
+
+    // FNV-1a, skip1/skip2 위치의 글자는 건너뜀. 0 은 빈 칸 표시라 쓰지 않는다
+    private static long hash(String s, int len, int skip1, int skip2) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < len; i++) {
+            if (i == skip1 || i == skip2) continue;
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 29;
+        return h == 0 ? 1 : h;
+    }
+
+    /* ================== 해시 표 ================== */
+
+    private int find(long key) {
+        int mask = slotKeys.length - 1;
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            if (slotKeys[i] == key) return i;
+            if (slotKeys[i] == 0) return -1;
+        }
+    }
+
+    private void link(long key, int id) {
+        if ((slotsUsed + 1) * 4 > slotKeys.length * 3) rehash();
+        int mask = slotKeys.length - 1;
+        int i = mix(key) & mask;
+        while (slotKeys[i] != 0 && slotKeys[i] != key) i = (i + 1) & mask;
+        if (slotKeys[i] == 0) {
+            slotKeys[i] = key;
+            slotHeads[i] = -1;
+            slotsUsed++;
+        }
+        int node = newNode();
+        nodeWord[node] = id;
+        nodeNext[node] = slotHeads[i];
+        slotHeads[i] = node;
+    }
+
+    // 빈 목록이 된 칸은 탐사 경로를 끊지 않도록 키를 남겨 두고, 다음 rehash 때 정리한다
+    private void unlink(long key, int id) {
+        int slot = find(key);
+        if (slot < 0) return;
+        int prev = -1;
+        for (int node = slotHeads[slot]; node >= 0; prev = node, node = nodeNext[node]) {
+            if (nodeWord[node] != id) continue;
+            if (prev < 0) slotHeads[slot] = nodeNext[node];
+            else nodeNext[prev] = nodeNext[node];
+            nodeNext[node] = freeNode;
+            freeNode = node;
+            return;
+        }
+    }
+
+    private int newNode() {
+        if (freeNode >= 0) {
+            int node = freeNode;
+            freeNode = nodeNext[node];
+            return node;
+        }
+        if (nodeCount == nodeWord.length) {
+            nodeWord = Arrays.copyOf(nodeWord, nodeCount * 2);
+            nodeNext = Arrays.copyOf(nodeNext, nodeCount * 2);
+        }
+        return nodeCount++;
+    }
+
+    // 목록이 남아 있는 칸만 옮긴다. 옮긴 뒤 절반 이하로 차도록 크기를 정함
+    private void rehash() {
+        long[] oldKeys = slotKeys;
+        int[] oldHeads = slotHeads;
+        int live = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0 && oldHeads[i] >= 0) live++;
+        }
+        int capacity = MIN_SLOTS;
+        while ((live + 1) * 2 > capacity) capacity *= 2;
+        slotKeys = new long[capacity];
+        slotHeads = new int[capacity];
+        slotsUsed = 0;
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0 || oldHeads[i] < 0) continue;
+            int j = mix(oldKeys[i]) & mask;
+            while (slotKeys[j] != 0) j = (j + 1) & mask;
+            slotKeys[j] = oldKeys[i];
+            slotHeads[j] = oldHeads[i];
+            slotsUsed++;
+        }
+    }
+
+    private static int mix(long key) {
+        return (int) (key ^ (key >>> 32));
+    }
+}
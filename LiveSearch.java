@@ -0,0 +1,101 @@
+package team10;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.JTextComponent;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 입력하는 동안 검색(search-as-you-type).
+// 타이핑이 delayMs 동안 멈추면 백그라운드 스레드에서 VocManager.search 를 돌리고,
+// 새 검색이 시작되면 이전 검색은 취소/폐기한다. 결과는 EDT 에서 handler 로 한 번에 전달된다.
+// 결과가 하나도 없으면 같은 스레드에서 철자가 비슷한 단어(VocManager.suggestWords)도 찾아서 넘긴다.
+public class LiveSearch {
+
+    public interface ResultHandler {
+        // EDT 에서 호출. query 가 비어 있으면 results 도 빈 리스트.
+        // suggestions 는 results 가 비었을 때만 채워진다
+        void onResults(String query, List<Word> results, List<Word> suggestions, long latencyNanos);
+    }
+
+    private static final int SUGGEST_LIMIT = 5;
+
+    private final JTextComponent field;
+    private final VocManager manager;
+    private final int limit;
+    private final ResultHandler handler;
+
+    private final Timer debounce;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "live-search");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // EDT 에서만 읽고 쓴다
+    private Future<?> running;
+    private long generation = 0;
+    private volatile long lastLatencyNanos = -1;
+
+    public LiveSearch(JTextComponent field, VocManager manager, int limit, int delayMs,
+                      ResultHandler handler) {
+        this.field = field;
+        this.manager = manager;
+        this.limit = limit;
+        this.handler = handler;
+
+        debounce = new Timer(delayMs, e -> searchNow());
+        debounce.setRepeats(false);
+
+        field.getDocument().addDocumentListener(new DocumentListener() {
+            @Override public void insertUpdate(DocumentEvent e) { debounce.restart(); }
+            @Override public void removeUpdate(DocumentEvent e) { debounce.restart(); }
+            @Override public void changedUpdate(DocumentEvent e) { }
+        });
+    }
+
+    // 디바운스를 기다리지 않고 바로 검색 (검색 버튼/엔터용)
+    public void searchNow() {
+        debounce.stop();
+        if (running != null) running.cancel(true);
+
+        String query = field.getText().trim();
+        long gen = ++generation;
+        if (query.isEmpty()) {
+            running = null;
+            handler.onResults(query, Collections.emptyList(), Collections.emptyList(), 0);
+            return;
+        }
+
+        running = executor.submit(() -> {
+            long start = System.nanoTime();
+            List<Word> results = manager.search(query, limit);
+            List<Word> suggestions = results.isEmpty()
+                    ? manager.suggestWords(query, SUGGEST_LIMIT) : Collections.<Word>emptyList();
+            long latency = System.nanoTime() - start;
+            if (Thread.currentThread().isInterrupted()) return;
+
+            SwingUtilities.invokeLater(() -> {
+                if (gen != generation) return;   // 그 사이 더 새로운 검색이 시작됨
+                lastLatencyNanos = latency;
+                handler.onResults(query, results, suggestions, latency);
+            });
+        });
+    }
+
+    // 마지막으로 화면에 반영된 검색의 소요 시간 (ns, 아직 없으면 -1)
+    public long getLastLatencyNanos() { return lastLatencyNanos; }
+
+    public static String formatLatency(long nanos) {
+        return String.format("%.2f ms", nanos / 1_000_000.0);
+    }
+
+    public void dispose() {
+        debounce.stop();
+        executor.shutdownNow();
+    }
+}
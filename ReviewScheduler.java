@@ -0,0 +1,335 @@
+package team10;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 사용자별 간격 반복(SM-2) 스케줄러.
+// 단어마다 ease, 간격(일), 연속 정답 수, 틀린 횟수, 다음 복습 시각(due)을 들고,
+// due 가 가장 이른 것부터 꺼내는 우선순위 큐로 퀴즈 문제를 고른다 (k 문제에 O(k log n)).
+// 답할 때마다 due 가 바뀌므로 큐에는 새 항목을 넣고, 옛 항목은 꺼낼 때 due 가 다르면 버린다.
+//
+// 카드는 한 번이라도 푼 단어에만 만든다. 아직 안 푼 단어(새 카드, due 0)는 단어장(SortedWordIndex)을
+// 사용자마다 다른 순열 i → (step·i + offset) mod n 순서로 훑어서 고르므로,
+// 공용 단어장이 아무리 커도 사용자 하나의 스케줄러는 푼 단어 수만큼만 메모리를 쓴다.
+// 문제는 (1) 지금 due 인 카드 → (2) 새 단어 (하루 newPerDay 개까지) → (3) 곧 due 가 될 카드
+// → (4) 그래도 모자라면 한도를 넘는 새 단어 순으로 고른다. 새 단어가 아무리 많아도 복습이 밀리지 않는다.
+//
+// 저장 형식 (<user>_review.bin): magic "SRS1", 카드 수, 카드마다
+//   key(UTF) ease(float) interval(int) reps(int) lapses(int) reviews(int) due(long)
+// 한 번도 푼 적 없는 단어는 저장하지 않는다 (카드 없이 "지금 due" 인 새 단어로 다룬다).
+public class ReviewScheduler {
+
+    private static final int MAGIC = 0x53525331;   // "SRS1"
+    private static final float START_EASE = 2.5f;
+    private static final float MIN_EASE = 1.3f;
+    static final long RELEARN_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final int NEW_PER_DAY = 20;
+
+    public static final class Card {
+        Word word;        // 수정되면 새 사본으로 바뀐다
+        float ease = START_EASE;
+        int interval;     // 일
+        int reps;         // 연속 정답 수
+        int lapses;       // 틀린 횟수
+        int reviews;      // 푼 횟수
+        long due;         // epoch millis, 0 = 새 카드
+        final int salt = ThreadLocalRandom.current().nextInt();   // due 가 같을 때 순서 섞기용
+
+        Card(Word word) {
+            this.word = word;
+        }
+
+        public Word getWord() { return word; }
+        public float getEase() { return ease; }
+        public int getInterval() { return interval; }
+        public int getLapses() { return lapses; }
+        public int getReviews() { return reviews; }
+        public long getDue() { return due; }
+
+        // 틀린 비율 (안 풀어 본 카드는 0)
+        public double errorRate() { return reviews == 0 ? 0 : lapses / (double) reviews; }
+    }
+
+    // 큐 항목: 넣을 당시의 due. 카드의 due 가 바뀌었거나 카드가 지워졌으면 무효
+    private static final class Entry implements Comparable<Entry> {
+        final Card card;
+        final long due;
+
+        Entry(Card card) {
+            this.card = card;
+            this.due = card.due;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            int c = Long.compare(due, o.due);
+            return c != 0 ? c : Integer.compare(card.salt, o.card.salt);
+        }
+    }
+
+    private final SortedWordIndex words;   // 이 사용자가 보는 단어장
+    private final HashMap<String, Card> cards = new HashMap<>();   // 푼 적 있는 단어만
+    private PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+    // 새 카드 순서: step·i + offset (mod permSize). 단어 수가 바뀌면 새로 정한다
+    private int permSize = -1;
+    private long step, offset;
+    private int cursor;   // 이 앞의 순열 칸은 모두 카드가 있다
+
+    // 오늘 처음 푼 새 단어 수 (이 세션에서, 날짜가 바뀌면 0)
+    private int newPerDay = NEW_PER_DAY;
+    private long newDay = Long.MIN_VALUE;
+    private int newToday;
+
+    public ReviewScheduler(SortedWordIndex words) {
+        this.words = words;
+    }
+
+    /* ================== 카드 관리 ================== */
+
+    // 단어가 지워지면 기록도 버린다 (큐의 항목은 꺼낼 때 버려진다)
+    public synchronized void remove(Word w) {
+        cards.remove(w.getKey());
+    }
+
+    // 뜻이 수정되어 단어장의 Word 가 사본으로 바뀐 경우
+    public synchronized void update(Word w) {
+        Card c = cards.get(w.getKey());
+        if (c != null) c.word = w;
+    }
+
+    // 한 번도 풀지 않은 단어는 null
+    public synchronized Card getCard(Word w) {
+        return cards.get(w.getKey());
+    }
+
+    // 기록이 있는 (한 번 이상 푼) 카드 수
+    public synchronized int size() { return cards.size(); }
+
+    // 하루에 새로 내는 단어 수 (복습할 카드가 모자랄 때는 이보다 더 낸다)
+    public synchronized void setNewPerDay(int newPerDay) {
+        this.newPerDay = Math.max(0, newPerDay);
+    }
+
+    /* ================== 문제 고르기 / 채점 ================== */
+
+    public List<Word> next(int k) {
+        return next(k, System.currentTimeMillis());
+    }
+
+    // 최대 k 개 (단어장이 k 개보다 작을 때만 모자란다): 지금 due 인 카드 → 오늘 한도 안의 새 단어
+    // → 곧 due 가 될 카드 → 한도를 넘는 새 단어. 고른 카드는 답하기 전까지 큐에 그대로 남는다
+    public synchronized List<Word> next(int k, long now) {
+        List<Entry> due = new ArrayList<>(k);
+        pollLive(due, k, now);
+        List<Word> fresh = nextNew(Math.min(k - due.size(), newLeftToday(now)), null);
+        List<Entry> soon = new ArrayList<>();
+        pollLive(soon, k - due.size() - fresh.size(), Long.MAX_VALUE);
+        if (due.size() + fresh.size() + soon.size() < k) {
+            nextNew(k - due.size() - soon.size(), fresh);
+        }
+
+        List<Word> out = new ArrayList<>(k);
+        for (Entry e : due) out.add(e.card.word);
+        out.addAll(fresh);
+        for (Entry e : soon) out.add(e.card.word);
+        queue.addAll(due);
+        queue.addAll(soon);
+        return out;
+    }
+
+    // due 가 until 이하인 살아 있는 항목을 이른 순으로 out 이 max 개가 될 때까지 꺼낸다 (같은 카드는 한 번만)
+    private void pollLive(List<Entry> out, int max, long until) {
+        while (out.size() < max && !queue.isEmpty() && queue.peek().due <= until) {
+            Entry e = queue.poll();
+            if (isLive(e) && !containsCard(out, e.card)) out.add(e);
+        }
+    }
+
+    private static boolean containsCard(List<Entry> entries, Card c) {
+        for (Entry e : entries) {
+            if (e.card == c) return true;
+        }
+        return false;
+    }
+
+    private int newLeftToday(long now) {
+        rollDay(now);
+        return Math.max(0, newPerDay - newToday);
+    }
+
+    private void rollDay(long now) {
+        long day = Instant.ofEpochMilli(now).atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+        if (day != newDay) {
+            newDay = day;
+            newToday = 0;
+        }
+    }
+
+    // 카드가 없는 단어를 순열 순서로 out 이 k 개가 될 때까지 (out 이 null 이면 새 목록)
+    private List<Word> nextNew(int k, List<Word> out) {
+        if (out == null) out = new ArrayList<>(k);
+        int n = words.size();
+        if (n != permSize) {
+            ThreadLocalRandom rand = ThreadLocalRandom.current();
+            permSize = n;
+            step = n <= 1 ? 1 : 1 + rand.nextInt(n - 1);
+            while (gcd(step, n) != 1) step++;
+            offset = n == 0 ? 0 : rand.nextInt(n);
+            cursor = 0;
+        }
+        for (int i = cursor; i < n && out.size() < k; i++) {
+            Word w = words.get((int) ((step * i + offset) % n));
+            if (cards.containsKey(w.getKey())) {
+                if (i == cursor) cursor++;
+            } else if (!out.contains(w)) {
+                out.add(w);
+            }
+        }
+        return out;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    // 지금 복습할 카드 수 (큐 전체를 훑으므로 화면 표시용). 오늘 낼 새 단어도 포함
+    public synchronized int dueCount(long now) {
+        int n = Math.min(Math.max(0, words.size() - cards.size()), newLeftToday(now));
+        for (Entry e : queue) {
+            if (e.due <= now && isLive(e)) n++;
+        }
+        return n;
+    }
+
+    // 맞혔으면 quality 4, 틀렸으면 1 로 SM-2 적용
+    public void review(Word w, boolean correct) {
+        review(w, correct ? 4 : 1, System.currentTimeMillis());
+    }
+
+    // quality: 0 (전혀 모름) ~ 5 (완벽)
+    public synchronized void review(Word w, int quality, long now) {
+        Card c = cards.get(w.getKey());
+        if (c == null) {
+            Word current = lookup(w.getKey());
+            if (current == null) return;   // 단어장에 없는 단어 (지워진 오답노트 단어 등)
+            c = new Card(current);
+            cards.put(current.getKey(), c);
+            rollDay(now);
+            newToday++;
+        }
+        c.reviews++;
+        if (quality < 3) {
+            c.reps = 0;
+            c.lapses++;
+            c.interval = 1;
+            c.due = now + RELEARN_MILLIS;   // 같은 날 한 번 더
+        } else {
+            c.interval = c.reps == 0 ? 1 : c.reps == 1 ? 6 : Math.round(c.interval * c.ease);
+            c.reps++;
+            c.due = now + TimeUnit.DAYS.toMillis(c.interval);
+        }
+        c.ease = Math.max(MIN_EASE, c.ease + 0.1f - (5 - quality) * (0.08f + (5 - quality) * 0.02f));
+        queue.add(new Entry(c));
+        compactIfStale();
+    }
+
+    private boolean isLive(Entry e) {
+        return e.due == e.card.due && cards.get(e.card.word.getKey()) == e.card;
+    }
+
+    private Word lookup(String key) {
+        int i = words.rank(key);
+        if (i >= words.size()) return null;
+        Word w = words.get(i);
+        return w.getKey().equals(key) ? w : null;
+    }
+
+    // 버려질 항목이 카드 수의 두 배를 넘으면 큐를 다시 만든다
+    private void compactIfStale() {
+        if (queue.size() <= 2 * cards.size() + 64) return;
+        List<Entry> live = new ArrayList<>(cards.size());
+        for (Entry e : queue) {
+            if (isLive(e)) live.add(e);
+        }
+        queue = new PriorityQueue<>(live);
+    }
+
+    /* ================== 저장 / 불러오기 ================== */
+
+    // 푼 적 있는 카드만 기록
+    public synchronized void writeTo(OutputStream os) throws IOException {
+        DataOutputStream out = new DataOutputStream(os);
+        List<Card> touched = new ArrayList<>();
+        for (Card c : cards.values()) {
+            if (c.reviews > 0) touched.add(c);
+        }
+        out.writeInt(MAGIC);
+        out.writeInt(touched.size());
+        for (Card c : touched) {
+            out.writeUTF(c.word.getKey());
+            out.writeFloat(c.ease);
+            out.writeInt(c.interval);
+            out.writeInt(c.reps);
+            out.writeInt(c.lapses);
+            out.writeInt(c.reviews);
+            out.writeLong(c.due);
+        }
+        out.flush();
+    }
+
+    // 단어장을 다 불러온 뒤에 부른다. 단어장에 없는 단어의 기록은 버린다
+    public synchronized void load(Path file) {
+        if (!Files.exists(file)) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                System.out.println("복습 기록 형식이 다릅니다: " + file.getFileName());
+                return;
+            }
+            int n = in.readInt();
+            for (int i = 0; i < n; i++) {
+                String key = in.readUTF();
+                float ease = in.readFloat();
+                int interval = in.readInt();
+                int reps = in.readInt();
+                int lapses = in.readInt();
+                int reviews = in.readInt();
+                long due = in.readLong();
+                Word w = lookup(key);
+                if (w == null) continue;
+                Card c = new Card(w);
+                cards.put(key, c);
+                c.ease = ease;
+                c.interval = interval;
+                c.reps = reps;
+                c.lapses = lapses;
+                c.reviews = reviews;
+                c.due = due;
+            }
+        } catch (IOException e) {
+            System.out.println("복습 기록 읽기 오류: " + e.getMessage());
+        }
+        // due 가 바뀌었으니 큐를 새로
+        List<Entry> all = new ArrayList<>(cards.size());
+        for (Card c : cards.values()) all.add(new Entry(c));
+        queue = new PriorityQueue<>(all);
+    }
+}
@@ -0,0 +1,532 @@
+package team10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// 검색 인덱스: 영어 접두어용 trie + eng/kor 부분 문자열용 2-gram 역색인.
+// addWord / editWord / deleteWord 에서 증분 갱신되고, 검색은 백그라운드 스레드에서도
+// 호출되므로 모든 public 메서드는 synchronized.
+//
+// 층: new SearchIndex(base) 는 공용 base 를 그대로 두고 사용자가 추가/수정한 단어만 자기 색인에 넣는다.
+// 지운 base 단어는 hidden 에 적어 두고, 검색할 때 base 결과에서 빼고 자기 결과와 (순위, eng) 순으로 합친다.
+// base 는 바뀌지 않고 검색이 색인에 아무것도 쓰지 않으므로, 층은 base 의 잠금 없이 unlocked* 로 읽는다.
+//
+// new SearchIndex(frozen) 은 freeze 한 CompactVocStore (공용 기본 단어장) 의 읽기 전용 색인.
+// Word/항목 객체 없이 2-gram → id 배열과 id 별 bloom 만 들고, 확인할 후보만 저장소에서 문자열로 푼다.
+// 접두어 검색은 trie 대신 저장소의 키 순서(sorted)에서 이어진 구간을 읽는다.
+public class SearchIndex {
+
+    // 순위: 정확히 일치 > 영어 접두어 > 뜻 일치 > 영어 부분 일치 > 뜻 부분 일치
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_KOR_EXACT = 2;
+    private static final int RANK_ENG_INFIX = 3;
+    private static final int RANK_KOR_INFIX = 4;
+
+    private static final Comparator<Entry> BY_ENG = Comparator.comparing(e -> e.eng);
+    private static final Comparator<Hit> HIT_BY_ENG = Comparator.comparing(h -> h.eng);
+
+    private final TrieNode root = new TrieNode();
+    // 2-gram → 그 2-gram 을 포함하는 항목들 (항목당 한 번만 들어간다)
+    private final HashMap<Integer, ArrayList<Entry>> grams = new HashMap<>();
+    // 글자 → 그 글자가 들어간 2-gram 들 (한 글자 검색용: 이 2-gram 들의 posting 합집합이 후보)
+    private final HashMap<Character, ArrayList<Integer>> gramsOf = new HashMap<>();
+    // eng 나 kor 가 한 글자라 그 글자가 2-gram 에 안 들어간 항목 (보통 거의 없다)
+    private final ArrayList<Entry> shortEntries = new ArrayList<>();
+    private final HashMap<Word, Entry> entries = new HashMap<>();
+
+    private final SearchIndex base;   // null 이면 단독 색인
+    private final HashSet<String> hidden = new HashSet<>();   // 지워진 base 단어의 키
+
+    private final CompactVocStore frozen;   // null 이 아니면 읽기 전용
+    private final HashMap<Integer, int[]> frozenGrams = new HashMap<>();   // 2-gram → id (오름차순)
+    private int[] frozenShort = new int[0];
+    private long[] frozenBloom = new long[0];
+
+    // 색인 시점의 소문자 eng/kor 를 함께 들고 있어 검증 시 다시 변환하지 않는다
+    private static final class Entry {
+        final Word word;
+        final String eng;
+        final String kor;
+        final int[] grams;
+        final long bloom;   // 2-gram 집합의 64비트 bloom: 문자열을 읽기 전에 후보를 빨리 거른다
+
+        Entry(Word word) {
+            this.word = word;
+            this.eng = word.getKey();
+            this.kor = fold(word.getKor());
+            this.grams = distinctGrams(eng, kor);
+            this.bloom = bloom(grams);
+        }
+    }
+
+    // 읽기 전용 색인의 검색 후보
+    private static final class Hit {
+        final int id;
+        final String eng;
+
+        Hit(int id, String eng) {
+            this.id = id;
+            this.eng = eng;
+        }
+    }
+
+    public SearchIndex() {
+        this((SearchIndex) null);
+    }
+
+    // base 는 이후 바뀌지 않아야 한다
+    public SearchIndex(SearchIndex base) {
+        this.base = base;
+        this.frozen = null;
+    }
+
+    // frozen.freeze() 한 뒤여야 한다. 추가/삭제는 UnsupportedOperationException
+    public SearchIndex(CompactVocStore frozen) {
+        if (!frozen.isFrozen()) throw new IllegalArgumentException("freeze 하지 않은 저장소");
+        this.base = null;
+        this.frozen = frozen;
+        buildFrozen();
+    }
+
+    public static String fold(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /* ================== 증분 갱신 ================== */
+
+    public synchronized void add(Word w) {
+        readOnlyCheck();
+        if (w == null || w.getKey() == null || entries.containsKey(w) || inBase(w)) return;
+        insert(new Entry(w));
+    }
+
+    private void insert(Entry e) {
+        if (inBase(e.word) || entries.putIfAbsent(e.word, e) != null) return;
+        root.insert(e.eng, e.word);
+        for (int g : e.grams) {
+            ArrayList<Entry> posting = grams.get(g);
+            if (posting == null) {
+                posting = new ArrayList<>(4);
+                grams.put(g, posting);
+                for (char c : charsOf(g)) gramsOf.computeIfAbsent(c, k -> new ArrayList<>(4)).add(g);
+            }
+            posting.add(e);
+        }
+        if (isShort(e)) shortEntries.add(e);
+    }
+
+    // 대량 추가: 2-gram 계산은 병렬로 하고 색인 삽입만 한 번의 잠금 안에서
+    public void addAll(Collection<Word> words) {
+        readOnlyCheck();
+        List<Entry> prepared = words.parallelStream()
+                .filter(w -> w != null && w.getKey() != null)
+                .map(Entry::new)
+                .collect(Collectors.toList());
+        synchronized (this) {
+            for (Entry e : prepared) insert(e);
+        }
+    }
+
+    public synchronized void remove(Word w) {
+        readOnlyCheck();
+        if (w == null) return;
+        Entry e = entries.remove(w);
+        if (e == null) {
+            if (inBase(w)) hidden.add(w.getKey());
+            return;
+        }
+        root.delete(e.eng, 0);
+        for (int g : e.grams) {
+            ArrayList<Entry> posting = grams.get(g);
+            if (posting == null) continue;
+            int i = posting.indexOf(e);
+            if (i >= 0) {
+                // 순서는 의미가 없으므로 마지막 원소와 바꿔서 O(1) 삭제
+                Entry last = posting.remove(posting.size() - 1);
+                if (last != e) posting.set(i, last);
+            }
+            if (posting.isEmpty()) {
+                grams.remove(g);
+                for (char c : charsOf(g)) {
+                    ArrayList<Integer> list = gramsOf.get(c);
+                    if (list == null) continue;
+                    list.remove(Integer.valueOf(g));
+                    if (list.isEmpty()) gramsOf.remove(c);
+                }
+            }
+        }
+        if (isShort(e)) shortEntries.remove(e);
+    }
+
+    private static boolean isShort(Entry e) {
+        return e.eng.length() == 1 || e.kor.length() == 1;
+    }
+
+    private static char[] charsOf(int gram) {
+        char a = (char) (gram >>> 16), b = (char) gram;
+        return a == b ? new char[]{a} : new char[]{a, b};
+    }
+
+    // 뜻이 바뀐 경우: 이전 뜻의 2-gram 을 빼고 새 뜻으로 다시 색인
+    public synchronized void update(Word w) {
+        remove(w);
+        add(w);
+    }
+
+    public synchronized int size() {
+        return unlockedSize();
+    }
+
+    private int unlockedSize() {
+        if (frozen != null) return frozen.size();
+        return base == null ? entries.size() : entries.size() + base.unlockedSize() - hidden.size();
+    }
+
+    // 가려지지 않은 base 단어인지 (base 는 바뀌지 않으므로 잠그지 않고 읽는다)
+    private boolean inBase(Word w) {
+        return base != null && !hidden.contains(w.getKey()) && base.indexed(w);
+    }
+
+    // 이 색인에 들어 있는 단어인지 (키로 비교)
+    private boolean indexed(Word w) {
+        return frozen != null ? frozen.id(w.getKey()) >= 0 : entries.containsKey(w);
+    }
+
+    private void readOnlyCheck() {
+        if (frozen != null) throw new UnsupportedOperationException("읽기 전용 색인");
+    }
+
+    private static int[] distinctGrams(String eng, String kor) {
+        int total = Math.max(0, eng.length() - 1) + Math.max(0, kor.length() - 1);
+        int[] out = new int[total];
+        int n = 0;
+        for (int i = 0; i + 1 < eng.length(); i++) out[n++] = gram(eng, i);
+        for (int i = 0; i + 1 < kor.length(); i++) out[n++] = gram(kor, i);
+        Arrays.sort(out);
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (m == 0 || out[m - 1] != out[i]) out[m++] = out[i];
+        }
+        return m == out.length ? out : Arrays.copyOf(out, m);
+    }
+
+    private static int gram(String s, int i) {
+        return (s.charAt(i) << 16) | s.charAt(i + 1);
+    }
+
+    private static long bloom(int[] gs) {
+        long bits = 0;
+        for (int g : gs) bits |= 1L << ((g * 0x9E3779B9) >>> 26);
+        return bits;
+    }
+
+    /* ================== 검색 ================== */
+
+    // keyword 를 eng 접두어/부분 문자열 또는 kor 부분 문자열로 포함하는 단어를 순위대로 최대 limit 개
+    public synchronized List<Word> search(String keyword, int limit) {
+        String q = fold(keyword);
+        if (q.isEmpty() || limit <= 0) return new ArrayList<>();
+        return unlockedSearch(q, limit);
+    }
+
+    // q: fold 한 검색어
+    private List<Word> unlockedSearch(String q, int limit) {
+        if (frozen != null) return searchFrozen(q, limit);
+        if (base == null) return searchOwn(q, limit);
+
+        // base 결과에서 가려진 단어를 빼고도 limit 개가 되도록, 모자라면 더 많이 받아 온다
+        List<Word> shared;
+        for (int want = limit; ; want *= 2) {
+            List<Word> found = base.unlockedSearch(q, want);
+            shared = new ArrayList<>(found.size());
+            for (Word w : found) {
+                if (!hidden.contains(w.getKey())) shared.add(w);
+            }
+            if (shared.size() >= limit || found.size() < want) break;
+        }
+        List<Word> own = searchOwn(q, limit);
+        if (own.isEmpty()) return shared.size() > limit ? new ArrayList<>(shared.subList(0, limit)) : shared;
+
+        // 두 결과 모두 (순위, eng) 순이므로 병합
+        List<Word> result = new ArrayList<>(limit);
+        int i = 0, j = 0;
+        while (result.size() < limit && (i < shared.size() || j < own.size())) {
+            if (j == own.size() || (i < shared.size() && compare(shared.get(i), own.get(j), q) <= 0)) {
+                result.add(shared.get(i++));
+            } else {
+                result.add(own.get(j++));
+            }
+        }
+        return result;
+    }
+
+    private static int compare(Word a, Word b, String q) {
+        int c = Integer.compare(rank(a.getKey(), fold(a.getKor()), q), rank(b.getKey(), fold(b.getKor()), q));
+        return c != 0 ? c : a.getKey().compareTo(b.getKey());
+    }
+
+    private List<Word> searchOwn(String q, int limit) {
+        List<Word> result = new ArrayList<>();
+        if (entries.isEmpty()) return result;
+
+        // 1) trie: 정확히 일치 + 접두어 (trie 순회 순서가 곧 알파벳 순)
+        TrieNode node = root.find(q);
+        if (node != null) {
+            if (node.word != null) result.add(node.word);
+            node.collect(result, limit);
+        }
+        if (result.size() >= limit) return result;
+
+        // 2) 가장 짧은 2-gram posting 만 훑으면서 실제 포함 여부를 확인
+        Collection<Entry> candidates = q.length() < 2 ? containing(q.charAt(0)) : smallestPosting(q);
+        if (candidates == null) return result;
+
+        // 순위별로 나눈 뒤, 앞 순위부터 필요한 개수만큼만 알파벳 순으로 뽑는다
+        List<List<Entry>> tiers = new ArrayList<>();
+        for (int r = RANK_KOR_EXACT; r <= RANK_KOR_INFIX; r++) tiers.add(new ArrayList<>());
+        long qBloom = q.length() < 2 ? 0 : bloom(distinctGrams(q, ""));
+        for (Entry e : candidates) {
+            if ((e.bloom & qBloom) != qBloom) continue;
+            int rank = rank(e, q);
+            if (rank > RANK_PREFIX) tiers.get(rank - RANK_KOR_EXACT).add(e);
+        }
+        for (List<Entry> tier : tiers) {
+            int need = limit - result.size();
+            if (need <= 0) break;
+            for (Entry e : smallest(tier, need, BY_ENG)) result.add(e.word);
+        }
+        return result;
+    }
+
+    // eng 순으로 가장 앞선 k 개 (크기 k 의 max-heap 으로 O(m log k))
+    private static <T> List<T> smallest(List<T> tier, int k, Comparator<T> byEng) {
+        if (tier.size() <= k) {
+            tier.sort(byEng);
+            return tier;
+        }
+        PriorityQueue<T> heap = new PriorityQueue<>(k, byEng.reversed());
+        for (T e : tier) {
+            if (heap.size() < k) {
+                heap.add(e);
+            } else if (byEng.compare(e, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(e);
+            }
+        }
+        List<T> out = new ArrayList<>(heap);
+        out.sort(byEng);
+        return out;
+    }
+
+    // 글자 c 가 들어간 항목만 (전체를 훑지 않는다)
+    private Collection<Entry> containing(char c) {
+        HashSet<Entry> out = new HashSet<>();
+        ArrayList<Integer> gs = gramsOf.get(c);
+        if (gs != null) {
+            for (int g : gs) out.addAll(grams.get(g));
+        }
+        for (Entry e : shortEntries) {
+            if (e.eng.indexOf(c) >= 0 || e.kor.indexOf(c) >= 0) out.add(e);
+        }
+        return out;
+    }
+
+    private List<Entry> smallestPosting(String q) {
+        ArrayList<Entry> best = null;
+        for (int i = 0; i + 1 < q.length(); i++) {
+            ArrayList<Entry> posting = grams.get(gram(q, i));
+            if (posting == null) return null;   // 없는 2-gram 이 하나라도 있으면 결과 없음
+            if (best == null || posting.size() < best.size()) best = posting;
+        }
+        return best;
+    }
+
+    private static int rank(Entry e, String q) {
+        return rank(e.eng, e.kor, q);
+    }
+
+    private static int rank(String eng, String kor, String q) {
+        if (eng.equals(q)) return RANK_EXACT;
+        if (eng.startsWith(q)) return RANK_PREFIX;
+        if (kor.equals(q)) return RANK_KOR_EXACT;
+        if (eng.contains(q)) return RANK_ENG_INFIX;
+        if (kor.contains(q)) return RANK_KOR_INFIX;
+        return -1;
+    }
+
+    /* ================== 읽기 전용 (공용 기본 단어장) ================== */
+
+    // 2-gram 계산은 병렬로 하고, posting 은 개수를 센 뒤 정확한 크기의 배열에 id 순으로 채운다
+    private void buildFrozen() {
+        int n = frozen.size();
+        int[][] gramsById = new int[n][];
+        boolean[] isShort = new boolean[n];
+        frozenBloom = new long[n];
+        IntStream.range(0, n).parallel().forEach(id -> {
+            String eng = frozen.key(id), kor = fold(frozen.kor(id));
+            gramsById[id] = distinctGrams(eng, kor);
+            frozenBloom[id] = bloom(gramsById[id]);
+            isShort[id] = eng.length() == 1 || kor.length() == 1;
+        });
+        HashMap<Integer, int[]> counts = new HashMap<>();
+        for (int[] gs : gramsById) {
+            for (int g : gs) counts.computeIfAbsent(g, k -> new int[1])[0]++;
+        }
+        for (Map.Entry<Integer, int[]> e : counts.entrySet()) {
+            int g = e.getKey();
+            frozenGrams.put(g, new int[e.getValue()[0]]);
+            e.getValue()[0] = 0;   // 이제부터 채울 위치
+            for (char c : charsOf(g)) gramsOf.computeIfAbsent(c, k -> new ArrayList<>(4)).add(g);
+        }
+        int shorts = 0;
+        for (int id = 0; id < n; id++) {
+            for (int g : gramsById[id]) frozenGrams.get(g)[counts.get(g)[0]++] = id;
+            gramsById[id] = null;
+            if (isShort[id]) shorts++;
+        }
+        frozenShort = new int[shorts];
+        for (int id = 0, i = 0; id < n; id++) {
+            if (isShort[id]) frozenShort[i++] = id;
+        }
+    }
+
+    private List<Word> searchFrozen(String q, int limit) {
+        List<Word> result = new ArrayList<>();
+
+        // 1) 키 순서에서 q 로 시작하는 구간: 정확히 일치가 맨 앞, 나머지는 알파벳 순 (trie 순회와 같은 순서)
+        for (int r = frozen.rank(q); r < frozen.size() && result.size() < limit; r++) {
+            int id = frozen.sortedId(r);
+            if (!frozen.key(id).startsWith(q)) break;
+            result.add(frozen.word(id));
+        }
+        if (result.size() >= limit) return result;
+
+        // 2) 가장 짧은 posting 의 id 중 bloom 을 통과한 것만 문자열로 풀어 확인
+        int[] candidates = q.length() < 2 ? frozenContaining(q.charAt(0)) : frozenSmallestPosting(q);
+        if (candidates == null) return result;
+        List<List<Hit>> tiers = new ArrayList<>();
+        for (int r = RANK_KOR_EXACT; r <= RANK_KOR_INFIX; r++) tiers.add(new ArrayList<>());
+        long qBloom = q.length() < 2 ? 0 : bloom(distinctGrams(q, ""));
+        for (int id : candidates) {
+            if ((frozenBloom[id] & qBloom) != qBloom) continue;
+            String eng = frozen.key(id);
+            int rank = rank(eng, fold(frozen.kor(id)), q);
+            if (rank > RANK_PREFIX) tiers.get(rank - RANK_KOR_EXACT).add(new Hit(id, eng));
+        }
+        for (List<Hit> tier : tiers) {
+            int need = limit - result.size();
+            if (need <= 0) break;
+            for (Hit h : smallest(tier, need, HIT_BY_ENG)) result.add(frozen.word(h.id));
+        }
+        return result;
+    }
+
+    private int[] frozenContaining(char c) {
+        BitSet out = new BitSet(frozen.size());
+        ArrayList<Integer> gs = gramsOf.get(c);
+        if (gs != null) {
+            for (int g : gs) {
+                for (int id : frozenGrams.get(g)) out.set(id);
+            }
+        }
+        for (int id : frozenShort) {
+            if (frozen.key(id).indexOf(c) >= 0 || fold(frozen.kor(id)).indexOf(c) >= 0) out.set(id);
+        }
+        return out.stream().toArray();
+    }
+
+    private int[] frozenSmallestPosting(String q) {
+        int[] best = null;
+        for (int i = 0; i + 1 < q.length(); i++) {
+            int[] posting = frozenGrams.get(gram(q, i));
+            if (posting == null) return null;
+            if (best == null || posting.length < best.length) best = posting;
+        }
+        return best;
+    }
+
+    /* ================== Trie ================== */
+
+    // 자식은 정렬된 char 배열로 보관 (HashMap 보다 노드당 메모리가 훨씬 작다)
+    private static final class TrieNode {
+        private static final char[] NO_KEYS = new char[0];
+        private static final TrieNode[] NO_KIDS = new TrieNode[0];
+
+        char[] keys = NO_KEYS;
+        TrieNode[] kids = NO_KIDS;
+        int n;
+        Word word;
+
+        TrieNode child(char c) {
+            int i = Arrays.binarySearch(keys, 0, n, c);
+            return i >= 0 ? kids[i] : null;
+        }
+
+        TrieNode find(String s) {
+            TrieNode cur = this;
+            for (int i = 0; i < s.length() && cur != null; i++) {
+                cur = cur.child(s.charAt(i));
+            }
+            return cur;
+        }
+
+        void insert(String s, Word w) {
+            TrieNode cur = this;
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                int pos = Arrays.binarySearch(cur.keys, 0, cur.n, c);
+                if (pos < 0) {
+                    pos = -pos - 1;
+                    if (cur.n == cur.keys.length) {
+                        int cap = Math.max(2, cur.n * 2);
+                        cur.keys = Arrays.copyOf(cur.keys, cap);
+                        cur.kids = Arrays.copyOf(cur.kids, cap);
+                    }
+                    System.arraycopy(cur.keys, pos, cur.keys, pos + 1, cur.n - pos);
+                    System.arraycopy(cur.kids, pos, cur.kids, pos + 1, cur.n - pos);
+                    cur.keys[pos] = c;
+                    cur.kids[pos] = new TrieNode();
+                    cur.n++;
+                }
+                cur = cur.kids[pos];
+            }
+            cur.word = w;
+        }
+
+        // 단어를 지우고, 비게 된 노드는 잘라낸다. 반환값: 이 노드가 비었는지
+        boolean delete(String s, int depth) {
+            if (depth == s.length()) {
+                word = null;
+            } else {
+                int pos = Arrays.binarySearch(keys, 0, n, s.charAt(depth));
+                if (pos >= 0 && kids[pos].delete(s, depth + 1)) {
+                    System.arraycopy(keys, pos + 1, keys, pos, n - pos - 1);
+                    System.arraycopy(kids, pos + 1, kids, pos, n - pos - 1);
+                    kids[--n] = null;
+                }
+            }
+            return word == null && n == 0;
+        }
+
+        // 자손 단어를 알파벳 순으로 limit 개까지 (이 노드 자신은 제외)
+        void collect(List<Word> out, int limit) {
+            for (int i = 0; i < n && out.size() < limit; i++) {
+                TrieNode kid = kids[i];
+                if (kid.word != null) out.add(kid.word);
+                kid.collect(out, limit);
+            }
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package team10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// 소문자 키(Word.getKey) 순서를 항상 유지하는 단어 인덱스.
+// 최대 BLOCK 개씩 정렬된 블록들 + 블록 크기에 대한 Fenwick 트리(2단 B-tree 와 비슷한 구조)로
+// 삽입/삭제 O(log n + BLOCK), 순위로 꺼내기(get)와 순위 찾기(rank) O(log n),
+// 범위 조회는 O(log n + 결과 수). 매번 전체를 다시 정렬할 필요가 없다.
+//
+// 층(layer): new SortedWordIndex(base) 는 바뀌지 않는 공용 base 위에 사용자별 변경만 얹는다.
+// 추가한 단어는 자기 블록에, base 단어를 지우면 그 base 위치만 hidden 에 적어 두고,
+// 조회할 때 두 목록을 합친 순서로 계산한다 (get 은 자기 단어 수 k 에 대해 O(log k · log n)).
+// 사용자 하나당 메모리는 바뀐 단어 수에만 비례한다.
+// base 는 바뀌지 않으므로 층은 base 의 잠금을 잡지 않고 unlocked* 메서드로 읽는다
+// (여러 사용자가 같은 base 를 동시에 읽어도 서로 기다리지 않는다).
+//
+// new SortedWordIndex(frozen) 은 freeze 한 CompactVocStore 의 키 순서(sorted id)를 그대로 쓰는 읽기 전용 인덱스.
+// 블록을 만들지 않고, get 할 때마다 Word 를 새로 만든다 (공용 기본 단어장).
+public class SortedWordIndex implements Iterable<Word> {
+
+    private static final int BLOCK = 512;
+    private static final int[] NONE = new int[0];
+
+    private final ArrayList<ArrayList<Word>> blocks = new ArrayList<>();
+    private int[] tree = new int[1];   // 1-based Fenwick 트리 (블록별 단어 수)
+    private int size;                  // 자기 블록의 단어 수
+
+    private final SortedWordIndex base;   // null 이면 단독 인덱스
+    private int[] hidden = NONE;          // 지워진 base 단어의 base 위치 (오름차순, 바뀔 때마다 새 배열)
+    private final CompactVocStore frozen;  // null 이 아니면 읽기 전용
+
+    public SortedWordIndex() {
+        this.base = null;
+        this.frozen = null;
+    }
+
+    // base 는 이후 바뀌지 않아야 한다
+    public SortedWordIndex(SortedWordIndex base) {
+        this.base = base;
+        this.frozen = null;
+    }
+
+    // frozen.freeze() 한 뒤여야 한다. 추가/삭제는 UnsupportedOperationException
+    public SortedWordIndex(CompactVocStore frozen) {
+        if (!frozen.isFrozen()) throw new IllegalArgumentException("freeze 하지 않은 저장소");
+        this.base = null;
+        this.frozen = frozen;
+    }
+
+    public SortedWordIndex(Collection<Word> words) {
+        this();
+        addAll(words);
+    }
+
+    /* ================== 갱신 ================== */
+
+    // 비어 있으면 한 번 정렬해서 블록을 채우고, 아니면 하나씩 넣는다
+    public synchronized void addAll(Collection<Word> words) {
+        readOnlyCheck();
+        if (base != null || !blocks.isEmpty()) {
+            for (Word w : words) add(w);
+            return;
+        }
+        Word[] all = words.toArray(new Word[0]);
+        Arrays.parallelSort(all, (a, b) -> a.getKey().compareTo(b.getKey()));
+        fillSorted(all);
+    }
+
+    // 이미 키 순서로 정렬된 단어들 (예: 스냅샷의 정렬 인덱스) - 비어 있으면 정렬 없이 채운다
+    public synchronized void addAllSorted(List<Word> words) {
+        readOnlyCheck();
+        if (base != null || !blocks.isEmpty()) {
+            for (Word w : words) add(w);
+            return;
+        }
+        fillSorted(words.toArray(new Word[0]));
+    }
+
+    private void fillSorted(Word[] all) {
+        for (int i = 0; i < all.length; ) {
+            ArrayList<Word> block = new ArrayList<>(BLOCK);
+            for (int end = Math.min(all.length, i + BLOCK / 2); i < end; i++) {
+                // 같은 키는 먼저 들어온 것 하나만
+                if (size == 0 || !all[i].getKey().equals(lastKey(block))) {
+                    block.add(all[i]);
+                    size++;
+                }
+            }
+            if (!block.isEmpty()) blocks.add(block);
+        }
+        rebuildTree();
+    }
+
+    private String lastKey(ArrayList<Word> block) {
+        ArrayList<Word> b = block.isEmpty() ? blocks.get(blocks.size() - 1) : block;
+        return b.get(b.size() - 1).getKey();
+    }
+
+    // 같은 키가 이미 있으면 false
+    public synchronized boolean add(Word w) {
+        readOnlyCheck();
+        if (base != null && visibleInBase(w.getKey()) >= 0) return false;
+        return addOwn(w);
+    }
+
+    private boolean addOwn(Word w) {
+        if (blocks.isEmpty()) {
+            ArrayList<Word> first = new ArrayList<>();
+            first.add(w);
+            blocks.add(first);
+            size = 1;
+            rebuildTree();
+            return true;
+        }
+        int b = blockFor(w.getKey());
+        ArrayList<Word> block = blocks.get(b);
+        int pos = search(block, w.getKey());
+        if (pos >= 0) return false;
+        block.add(-pos - 1, w);
+        size++;
+
+        if (block.size() > BLOCK) {
+            // 반으로 나누고 트리 재구성 (BLOCK/2 번 삽입마다 한 번꼴)
+            ArrayList<Word> right = new ArrayList<>(block.subList(BLOCK / 2, block.size()));
+            block.subList(BLOCK / 2, block.size()).clear();
+            blocks.add(b + 1, right);
+            rebuildTree();
+        } else {
+            update(b, 1);
+        }
+        return true;
+    }
+
+    // 층에서 base 단어를 지우면 base 는 그대로 두고 가리기만 한다
+    public synchronized boolean remove(Word w) {
+        readOnlyCheck();
+        if (removeOwn(w)) return true;
+        if (base == null) return false;
+        int p = visibleInBase(w.getKey());
+        if (p < 0) return false;
+        int at = -Arrays.binarySearch(hidden, p) - 1;
+        int[] h = new int[hidden.length + 1];
+        System.arraycopy(hidden, 0, h, 0, at);
+        h[at] = p;
+        System.arraycopy(hidden, at, h, at + 1, hidden.length - at);
+        hidden = h;
+        return true;
+    }
+
+    private boolean removeOwn(Word w) {
+        if (blocks.isEmpty()) return false;
+        int b = blockFor(w.getKey());
+        ArrayList<Word> block = blocks.get(b);
+        int pos = search(block, w.getKey());
+        if (pos < 0) return false;
+        block.remove(pos);
+        size--;
+
+        if (block.isEmpty()) {
+            blocks.remove(b);
+            rebuildTree();
+        } else {
+            update(b, -1);
+        }
+        return true;
+    }
+
+    private void readOnlyCheck() {
+        if (frozen != null) throw new UnsupportedOperationException("읽기 전용 인덱스");
+    }
+
+    /* ================== 조회 ================== */
+
+    public synchronized int size() {
+        return unlockedSize();
+    }
+
+    private int unlockedSize() {
+        if (frozen != null) return frozen.size();
+        return base == null ? size : base.unlockedSize() - hidden.length + size;
+    }
+
+    // 정렬 순서상 index 번째 단어
+    public synchronized Word get(int index) {
+        return unlockedGet(index);
+    }
+
+    private Word unlockedGet(int index) {
+        int n = unlockedSize();
+        if (index < 0 || index >= n) throw new IndexOutOfBoundsException(index + " / " + n);
+        if (frozen != null) return frozen.sortedWord(index);
+        if (base == null) return getOwn(index);
+
+        // 자기 단어 중 합친 위치가 index 이하인 마지막 것 (합친 위치 = 자기 위치 + 앞에 보이는 base 단어 수)
+        int lo = 0, hi = size - 1, before = 0;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            Word w = getOwn(mid);
+            int pos = mid + visibleBaseRank(w.getKey());
+            if (pos == index) return w;
+            if (pos < index) {
+                before = mid + 1;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return base.unlockedGet(selectBase(index - before));
+    }
+
+    private Word getOwn(int index) {
+        // Fenwick 트리를 내려가며 index 가 들어 있는 블록을 찾는다
+        int b = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(blocks.size()); step > 0; step >>= 1) {
+            int next = b + step;
+            if (next <= blocks.size() && tree[next] <= remaining) {
+                b = next;
+                remaining -= tree[next];
+            }
+        }
+        return blocks.get(b).get(remaining);
+    }
+
+    // key 보다 앞서는(작은) 단어의 수 = key 가 들어갈 위치
+    public synchronized int rank(String eng) {
+        String key = Word.keyOf(eng);
+        return key == null ? 0 : unlockedRank(key);
+    }
+
+    private int unlockedRank(String key) {
+        return rankOwn(key) + (base == null ? 0 : visibleBaseRank(key));
+    }
+
+    private int rankOwn(String key) {
+        if (frozen != null) return frozen.rank(key);
+        if (blocks.isEmpty()) return 0;
+        int b = blockFor(key);
+        int pos = search(blocks.get(b), key);
+        return prefix(b) + (pos >= 0 ? pos : -pos - 1);
+    }
+
+    // 목록에서의 위치, 없으면 -1
+    public synchronized int indexOf(Word w) {
+        if (w == null) return -1;
+        String key = w.getKey();
+        int own = indexOfOwn(key);
+        if (base == null) return own;
+        if (own >= 0) return own + visibleBaseRank(key);
+        int p = visibleInBase(key);
+        return p < 0 ? -1 : p - hiddenBefore(p) + rankOwn(key);
+    }
+
+    private int indexOfOwn(String key) {
+        if (frozen != null) {
+            int r = frozen.rank(key);
+            return r < frozen.size() && frozen.key(frozen.sortedId(r)).equals(key) ? r : -1;
+        }
+        if (blocks.isEmpty()) return -1;
+        int b = blockFor(key);
+        int pos = search(blocks.get(b), key);
+        return pos >= 0 ? prefix(b) + pos : -1;
+    }
+
+    // from 이상 to 미만인 단어들 (키 순서). 예: range("ma", "me")
+    public synchronized List<Word> range(String from, String to) {
+        List<Word> out = new ArrayList<>();
+        String hi = Word.keyOf(to);
+        int end = hi == null ? size() : rank(hi);
+        for (int i = rank(from); i < end; i++) out.add(get(i));
+        return out;
+    }
+
+    // 정렬 순서 전체 사본. 층이면 base 와 자기 단어를 한 번에 합친다 (get 을 n 번 부르지 않고 O(n))
+    public synchronized List<Word> toList() {
+        return unlockedToList();
+    }
+
+    private List<Word> unlockedToList() {
+        List<Word> out = new ArrayList<>(unlockedSize());
+        if (frozen != null) {
+            for (int i = 0; i < frozen.size(); i++) out.add(frozen.sortedWord(i));
+            return out;
+        }
+        if (base == null) {
+            for (ArrayList<Word> block : blocks) out.addAll(block);
+            return out;
+        }
+        List<Word> own = new ArrayList<>(size);
+        for (ArrayList<Word> block : blocks) own.addAll(block);
+        int i = 0, h = 0, p = 0;
+        for (Word w : base.unlockedToList()) {
+            if (h < hidden.length && hidden[h] == p++) {
+                h++;
+                continue;
+            }
+            while (i < own.size() && own.get(i).getKey().compareTo(w.getKey()) < 0) out.add(own.get(i++));
+            out.add(w);
+        }
+        while (i < own.size()) out.add(own.get(i++));
+        return out;
+    }
+
+    // prefix 로 시작하는 단어들 (키 순서)
+    public List<Word> withPrefix(String prefix) {
+        String p = Word.keyOf(prefix);
+        return range(p, p + Character.MAX_VALUE);
+    }
+
+    // 정렬 순서 순회 (순회 도중 변경되면 ConcurrentModification 대신 그 시점 상태를 따른다)
+    @Override
+    public Iterator<Word> iterator() {
+        return new Iterator<Word>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() { return next < size(); }
+
+            @Override
+            public Word next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return get(next++);
+            }
+        };
+    }
+
+    /* ================== 층 (base + 자기 단어) ================== */
+
+    // key 인 base 단어의 base 위치, 없거나 가려졌으면 -1
+    private int visibleInBase(String key) {
+        int p = base.unlockedRank(key);
+        if (p >= base.unlockedSize() || !base.unlockedGet(p).getKey().equals(key)) return -1;
+        return Arrays.binarySearch(hidden, p) < 0 ? p : -1;
+    }
+
+    // key 보다 앞서는 보이는 base 단어 수
+    private int visibleBaseRank(String key) {
+        int r = base.unlockedRank(key);
+        return r - hiddenBefore(r);
+    }
+
+    // base 위치 p 보다 앞에 가려진 단어 수
+    private int hiddenBefore(int p) {
+        int i = Arrays.binarySearch(hidden, p);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    // 보이는 base 단어 중 j 번째의 base 위치.
+    // hidden[t] - t (그 앞에 보이는 단어 수) 가 j 이하인 가려진 칸만큼 뒤로 밀린다
+    private int selectBase(int j) {
+        int lo = 0, hi = hidden.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (hidden[mid] - mid <= j) lo = mid + 1;
+            else hi = mid;
+        }
+        return j + lo;
+    }
+
+    /* ================== 내부 ================== */
+
+    // key 가 들어갈 블록: 마지막 키가 key 이상인 첫 블록 (없으면 마지막 블록)
+    private int blockFor(String key) {
+        int lo = 0, hi = blocks.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            ArrayList<Word> block = blocks.get(mid);
+            if (block.get(block.size() - 1).getKey().compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int search(ArrayList<Word> block, String key) {
+        int lo = 0, hi = block.size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = block.get(mid).getKey().compareTo(key);
+            if (c < 0) lo = mid + 1;
+            else if (c > 0) hi = mid - 1;
+            else return mid;
+        }
+        return -(lo + 1);
+    }
+
+    // 0..b-1 번 블록에 들어 있는 단어 수
+    private int prefix(int b) {
+        int sum = 0;
+        for (int i = b; i > 0; i -= i & -i) sum += tree[i];
+        return sum;
+    }
+
+    private void update(int b, int delta) {
+        for (int i = b + 1; i < tree.length; i += i & -i) tree[i] += delta;
+    }
+
+    private void rebuildTree() {
+        tree = new int[blocks.size() + 1];
+        for (int b = 0; b < blocks.size(); b++) {
+            int i = b + 1;
+            tree[i] += blocks.get(b).size();
+            int parent = i + (i & -i);
+            if (parent < tree.length) tree[parent] += tree[i];
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package team10;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.Vector;
+
+// 단어장 메모리 비교: 같은 합성 단어장(영어 표제어 + 한글 뜻)을 예전 Vector<Word> 와 CompactVocStore 에
+// 담았을 때 늘어난 힙 크기, 단어당 바이트, 만드는 시간과 전체를 한 번 읽는 시간을 잰다.
+// 이어서 검색/철자 후보/Wordle/보기 색인까지 만든 상태도 비교한다:
+//   예전 : Vector<Word> + 그 Word 들로 채운 색인들
+//   지금 : freeze 한 CompactVocStore + 그 위의 읽기 전용 색인들 (BaseDictionary 가 만드는 모양)
+//
+//   java -XX:-UseTLAB team10.VocFootprint [단어 수=1000000] [색인 비교 단어 수=200000]
+//
+// TLAB 을 끄지 않으면 스레드마다 미리 떼어 둔 영역까지 "사용 중"으로 잡혀 수치가 부풀어 보인다.
+public class VocFootprint {
+
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    public static void main(String[] args) {
+        int words = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int indexed = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        System.out.printf("단어 %d개%n", words);
+
+        long textBytes = 0;
+        for (int i = 0; i < words; i++) {
+            textBytes += engOf(i).getBytes(StandardCharsets.UTF_8).length + korOf(i).getBytes(StandardCharsets.UTF_8).length;
+        }
+        System.out.printf("원문 (UTF-8)      %,14d 바이트  (%5.1f /단어)%n", textBytes, (double) textBytes / words);
+
+        long before = usedHeap();
+        long start = System.nanoTime();
+        Vector<Word> vector = new Vector<>();
+        for (int i = 0; i < words; i++) vector.add(new Word(engOf(i), korOf(i)));
+        long vectorBuild = System.nanoTime() - start;
+        long vectorBytes = usedHeap() - before;
+        start = System.nanoTime();
+        long vectorSum = 0;
+        for (Word w : vector) vectorSum += w.getEng().length() + w.getKor().length();
+        long vectorScan = System.nanoTime() - start;
+        report("Vector<Word>", vectorBytes, words, vectorBuild, vectorScan);
+        vector = null;
+
+        before = usedHeap();
+        start = System.nanoTime();
+        CompactVocStore compact = new CompactVocStore(words);
+        for (int i = 0; i < words; i++) compact.add(engOf(i), korOf(i));
+        compact.trim();
+        long compactBuild = System.nanoTime() - start;
+        long compactBytes = usedHeap() - before;
+        start = System.nanoTime();
+        long compactSum = 0;
+        for (Word w : compact.words()) compactSum += w.getEng().length() + w.getKor().length();
+        long compactScan = System.nanoTime() - start;
+        report("CompactVocStore", compactBytes, words, compactBuild, compactScan);
+        System.out.printf("  (배열 계산값 %,d 바이트, 문자열 %,d 바이트)%n", compact.footprintBytes(), compact.textBytes());
+
+        if (vectorSum != compactSum || compact.size() != words) {
+            System.out.println("내용이 다릅니다: " + vectorSum + " / " + compactSum);
+        }
+        System.out.printf("Vector<Word> 대비 %.1f%%%n", 100.0 * compactBytes / Math.max(1, vectorBytes));
+        compact = null;
+
+        compareWithIndexes(indexed);
+    }
+
+    // 색인 네 개까지 만든 뒤의 힙 (만드는 데 쓴 임시 객체는 GC 뒤라 빠진다)
+    private static void compareWithIndexes(int words) {
+        System.out.printf("%n색인까지 (단어 %d개)%n", words);
+
+        long before = usedHeap();
+        long start = System.nanoTime();
+        Vector<Word> vector = new Vector<>();
+        for (int i = 0; i < words; i++) vector.add(new Word(engOf(i), korOf(i)));
+        SortedWordIndex sorted = new SortedWordIndex(vector);
+        SearchIndex search = new SearchIndex();
+        search.addAll(vector);
+        FuzzyIndex fuzzy = new FuzzyIndex();
+        fuzzy.addAll(vector);
+        WordlePool wordle = new WordlePool();
+        wordle.addAll(vector);
+        DistractorEngine distractors = new DistractorEngine(sorted);
+        distractors.addAll(vector);
+        long oldBuild = System.nanoTime() - start;
+        long oldBytes = usedHeap() - before;
+        String oldFirst = search.search("ab", 1).toString() + fuzzy.suggest(engOf(0), 1) + wordle.size(6) + distractors.size();
+        report("Vector + 색인", oldBytes, words, oldBuild);
+        vector = null;
+        sorted = null;
+        search = null;
+        fuzzy = null;
+        wordle = null;
+        distractors = null;
+
+        before = usedHeap();
+        start = System.nanoTime();
+        CompactVocStore store = new CompactVocStore(words);
+        for (int i = 0; i < words; i++) store.add(engOf(i), korOf(i));
+        store.freeze();
+        SearchIndex frozenSearch = new SearchIndex(store);
+        FuzzyIndex frozenFuzzy = new FuzzyIndex(store);
+        WordlePool frozenWordle = new WordlePool(store);
+        DistractorEngine frozenDistractors = new DistractorEngine(store);
+        long newBuild = System.nanoTime() - start;
+        long newBytes = usedHeap() - before;
+        String newFirst = frozenSearch.search("ab", 1).toString() + frozenFuzzy.suggest(engOf(0), 1)
+                + frozenWordle.size(6) + frozenDistractors.size();
+        report("Compact + 색인", newBytes, words, newBuild);
+
+        if (!oldFirst.equals(newFirst)) System.out.println("결과가 다릅니다: " + oldFirst + " / " + newFirst);
+        System.out.printf("Vector + 색인 대비 %.1f%%%n", 100.0 * newBytes / Math.max(1, oldBytes));
+    }
+
+    private static void report(String name, long bytes, int words, long buildNanos, long scanNanos) {
+        System.out.printf("%-17s %,14d 바이트  (%5.1f /단어)  만들기 %6.0f ms  전체 읽기 %6.0f ms%n",
+                name, bytes, (double) bytes / words, buildNanos / 1e6, scanNanos / 1e6);
+    }
+
+    private static void report(String name, long bytes, int words, long buildNanos) {
+        System.out.printf("%-17s %,14d 바이트  (%5.1f /단어)  만들기 %6.0f ms%n",
+                name, bytes, (double) bytes / words, buildNanos / 1e6);
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    /* ================== 합성 단어 ================== */
+
+    // 4~12 글자 소문자 (열 개에 하나는 대문자로 시작), 번호로 겹치지 않게
+    static String engOf(int i) {
+        SplittableRandom r = new SplittableRandom(i * 0x9E3779B97F4A7C15L);
+        StringBuilder sb = new StringBuilder();
+        int len = 4 + r.nextInt(9);
+        for (int j = 0; j < len; j++) sb.append(LETTERS.charAt(r.nextInt(LETTERS.length())));
+        if (r.nextInt(10) == 0) sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
+        return sb.append(Integer.toString(i, 36)).toString();
+    }
+
+    // 한글 두세 낱말 (낱말당 2~4 음절), 쉼표로 구분
+    static String korOf(int i) {
+        SplittableRandom r = new SplittableRandom(~i * 0xC2B2AE3D27D4EB4FL);
+        StringBuilder sb = new StringBuilder();
+        int parts = 1 + r.nextInt(3);
+        for (int p = 0; p < parts; p++) {
+            if (p > 0) sb.append(", ");
+            int syllables = 2 + r.nextInt(3);
+            for (int s = 0; s < syllables; s++) sb.append((char) (0xAC00 + r.nextInt(11172)));
+        }
+        return sb.toString();
+    }
+}
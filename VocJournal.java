@@ -0,0 +1,179 @@
+package team10;
+
+import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 단어장 변경 내용을 한 줄씩 덧붙이는 append-only 저널.
+//
+//   A<TAB>eng<TAB>kor   추가 (재생할 때는 덮어쓰기)
+//   E<TAB>eng<TAB>kor   뜻 수정
+//   D<TAB>eng           삭제
+//
+// append 는 메모리 버퍼에만 쓰고, 백그라운드 스레드가 FLUSH_INTERVAL_MS 마다 모아서
+// 한 번에 write + fsync 한다 (group commit). 마지막 줄이 '\n' 없이 잘려 있으면 재생하지 않는다.
+// 압축(compaction) 중에는 현재 저널을 .old 로 돌려 두고 새 파일에 이어서 쓴다.
+public class VocJournal {
+
+    public static final char ADD = 'A';
+    public static final char EDIT = 'E';
+    public static final char DELETE = 'D';
+
+    private static final long FLUSH_INTERVAL_MS = 200;
+
+    private final Path file;
+    private final Path oldFile;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "voc-journal");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private FileChannel channel;
+    private int records;   // 마지막 압축 이후 기록된 수
+    private int compactions;
+
+    public VocJournal(Path file) {
+        this.file = file;
+        this.oldFile = Paths.get(file + ".old");
+        flusher.scheduleWithFixedDelay(this::flushQuietly,
+                FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /* ================== 재생 ================== */
+
+    // .old (압축 도중 끊긴 경우) → 현재 저널 순서로 기록을 돌려준다. 각 원소: {op, eng, kor}
+    public List<String[]> replay() {
+        List<String[]> ops = read(oldFile);
+        ops.addAll(read(file));
+        synchronized (this) {
+            records = ops.size();
+        }
+        return ops;
+    }
+
+    // 저널 형식 파일 하나를 열지 않고 읽기만 한다 (없으면 빈 목록)
+    static List<String[]> read(Path p) {
+        List<String[]> ops = new ArrayList<>();
+        if (!Files.exists(p)) return ops;
+        try {
+            String text = new String(Files.readAllBytes(p), StandardCharsets.UTF_8);
+            int end = text.lastIndexOf('\n');   // 그 뒤는 쓰다가 끊긴 줄
+            int pos = 0;
+            while (pos <= end) {
+                int eol = text.indexOf('\n', pos);
+                String[] f = text.substring(pos, eol).split("\t", 3);
+                pos = eol + 1;
+                if (f.length < 2 || f[0].length() != 1) continue;
+                char op = f[0].charAt(0);
+                if (((op == ADD || op == EDIT) && f.length == 3) || op == DELETE) {
+                    ops.add(new String[]{f[0], f[1], f.length == 3 ? f[2] : null});
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("저널 읽기 오류: " + e.getMessage());
+        }
+        return ops;
+    }
+
+    // 기록을 모두 합친 결과를 같은 형식으로 쓴다: 지운 키(D) 다음에 추가/수정된 단어(A)
+    static void writeState(OutputStream os, Collection<String> deleted, Collection<Word> changed) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+        for (String key : deleted) out.write(DELETE + "\t" + key + "\n");
+        for (Word w : changed) out.write(ADD + "\t" + w.getEng() + "\t" + w.getKor() + "\n");
+        out.flush();
+    }
+
+    /* ================== 기록 ================== */
+
+    public synchronized void append(char op, String eng, String kor) {
+        StringBuilder sb = new StringBuilder().append(op).append('\t').append(eng);
+        if (op != DELETE) sb.append('\t').append(kor);
+        byte[] line = sb.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+        pending.write(line, 0, line.length);
+        records++;
+    }
+
+    public synchronized int getRecordCount() { return records; }
+
+    // 버퍼에 모인 기록을 파일에 쓰고 디스크까지 내린다
+    public synchronized void flush() throws IOException {
+        if (pending.size() == 0) return;
+        if (channel == null) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        ByteBuffer buf = ByteBuffer.wrap(pending.toByteArray());
+        while (buf.hasRemaining()) channel.write(buf);
+        channel.force(false);
+        pending.reset();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.out.println("저널 저장 오류: " + e.getMessage());
+        }
+    }
+
+    /* ================== 압축 ================== */
+
+    // 압축 시작: 지금까지의 저널을 .old 로 옮기고 이후 기록은 새 파일로.
+    // 호출하는 쪽은 이 시점의 단어장 사본을 본 파일에 쓴 뒤, 돌려받은 번호로 finishCompaction 을 부른다.
+    public synchronized int beginCompaction() throws IOException {
+        flush();
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        if (Files.exists(file)) {
+            if (Files.exists(oldFile)) {
+                // 이전 압축이 끝나지 않았으면 두 저널을 이어 붙여 순서를 유지
+                Files.write(oldFile, Files.readAllBytes(file), StandardOpenOption.APPEND);
+                Files.delete(file);
+            } else {
+                Files.move(file, oldFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        records = 0;
+        return ++compactions;
+    }
+
+    // 본 파일 저장이 끝났으니 .old 는 더 이상 필요 없다.
+    // 단, 그 사이 다음 압축이 시작됐다면 .old 에 아직 저장되지 않은 기록이 붙어 있으므로 남겨 둔다
+    public synchronized void finishCompaction(int compaction) throws IOException {
+        if (compaction == compactions) Files.deleteIfExists(oldFile);
+    }
+
+    public void close() {
+        flusher.shutdown();
+        flushQuietly();
+        synchronized (this) {
+            try {
+                if (channel != null) channel.close();
+            } catch (IOException e) {
+                System.out.println("저널 닫기 오류: " + e.getMessage());
+            }
+            channel = null;
+        }
+    }
+}
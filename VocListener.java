@@ -0,0 +1,9 @@
+package team10;
+
+// VocManager 의 단어장 변경 알림. 단어장을 바꾼 스레드에서, 색인을 갱신한 직후 쓰기 잠금 안에서 호출되므로
+// 알림끼리는 변경 순서대로 오고, 이때 읽은 정렬 위치는 바로 그 변경 직후의 위치다
+public interface VocListener {
+    void wordAdded(Word w);
+    void wordRemoved(Word w);
+    void wordChanged(Word w);   // 뜻(kor)만 바뀐 경우
+}
@@ -0,0 +1,160 @@
+package team10;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// "영어<TAB>뜻" 형식 단어장 파일 로더.
+// 파일을 줄 경계에 맞춘 조각들로 나눠 각각 메모리 매핑하고, ForkJoinPool 에서 병렬로
+// UTF-8 디코딩 + 탭 분리(정규식 없음)를 한 뒤 파일 순서대로 합친다.
+public class VocLoader {
+
+    private static final int MIN_CHUNK = 1 << 20;   // 1MB 보다 잘게는 나누지 않는다
+    private static final int MAX_CHUNK = 1 << 30;
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    public static final class Result {
+        public final List<Word> words;   // 파일 순서, 중복 제거 전
+        public final long bytes;
+        public final long nanos;
+
+        Result(List<Word> words, long bytes, long nanos) {
+            this.words = words;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        public double bytesPerSecond() { return nanos == 0 ? 0 : bytes * 1e9 / nanos; }
+        public double entriesPerSecond() { return nanos == 0 ? 0 : words.size() * 1e9 / nanos; }
+
+        @Override
+        public String toString() {
+            return String.format("%d개, %.1f KB, %.1f ms (%.1f MB/s, %.0f 단어/s)",
+                    words.size(), bytes / 1024.0, nanos / 1e6,
+                    bytesPerSecond() / (1024 * 1024), entriesPerSecond());
+        }
+    }
+
+    public static Result load(Path file) throws IOException {
+        return load(file, ForkJoinPool.commonPool());
+    }
+
+    public static Result load(Path file, ForkJoinPool pool) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            long[] bounds = chunkBounds(ch, size, pool.getParallelism());
+            List<Word> words = pool.invoke(new ParseTask(ch, bounds, 0, bounds.length - 1));
+            return new Result(words, size, System.nanoTime() - start);
+        }
+    }
+
+    // 조각 경계: 대략 균등하게 자른 뒤 각 경계를 다음 '\n' 바로 뒤로 옮긴다
+    private static long[] chunkBounds(FileChannel ch, long size, int parallelism) throws IOException {
+        long begin = hasBom(ch, size) ? UTF8_BOM.length : 0;
+        int chunks = (int) Math.max(1, Math.min(parallelism * 4L, (size - begin) / MIN_CHUNK));
+        chunks = (int) Math.max(chunks, (size - begin) / MAX_CHUNK + 1);   // 한 번에 매핑 가능한 크기 제한
+        long[] bounds = new long[chunks + 1];
+        bounds[0] = begin;
+        bounds[chunks] = size;
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        for (int i = 1; i < chunks; i++) {
+            long pos = Math.max(bounds[i - 1], begin + (size - begin) * i / chunks);
+            bounds[i] = nextLineStart(ch, pos, size, probe);
+        }
+        return bounds;
+    }
+
+    private static boolean hasBom(FileChannel ch, long size) throws IOException {
+        if (size < UTF8_BOM.length) return false;
+        ByteBuffer head = ByteBuffer.allocate(UTF8_BOM.length);
+        ch.read(head, 0);
+        return head.get(0) == UTF8_BOM[0] && head.get(1) == UTF8_BOM[1] && head.get(2) == UTF8_BOM[2];
+    }
+
+    private static long nextLineStart(FileChannel ch, long pos, long size, ByteBuffer probe) throws IOException {
+        while (pos < size) {
+            probe.clear();
+            int n = ch.read(probe, pos);
+            if (n <= 0) break;
+            for (int i = 0; i < n; i++) {
+                if (probe.get(i) == '\n') return pos + i + 1;
+            }
+            pos += n;
+        }
+        return size;
+    }
+
+    // [lo, hi) 조각을 반씩 나눠 병렬로 파싱하고 순서대로 이어 붙인다
+    private static final class ParseTask extends RecursiveTask<List<Word>> {
+        private final FileChannel ch;
+        private final long[] bounds;
+        private final int lo, hi;
+
+        ParseTask(FileChannel ch, long[] bounds, int lo, int hi) {
+            this.ch = ch;
+            this.bounds = bounds;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected List<Word> compute() {
+            if (hi - lo == 1) {
+                try {
+                    return parseChunk(ch, bounds[lo], bounds[hi] - bounds[lo]);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            int mid = (lo + hi) >>> 1;
+            ParseTask left = new ParseTask(ch, bounds, lo, mid);
+            left.fork();
+            List<Word> right = new ParseTask(ch, bounds, mid, hi).compute();
+            List<Word> out = left.join();
+            out.addAll(right);
+            return out;
+        }
+    }
+
+    private static List<Word> parseChunk(FileChannel ch, long offset, long length) throws IOException {
+        List<Word> out = new ArrayList<>();
+        if (length <= 0) return out;
+        MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        String text = StandardCharsets.UTF_8.decode(buf).toString();
+
+        int pos = 0;
+        int len = text.length();
+        while (pos < len) {
+            int eol = text.indexOf('\n', pos);
+            if (eol < 0) eol = len;
+            parseLine(text, pos, eol, out);
+            pos = eol + 1;
+        }
+        return out;
+    }
+
+    // 기존 line.trim().split("\t") 과 같은 규칙: 첫 필드 = 영어, 둘째 필드 = 뜻
+    private static void parseLine(String text, int from, int to, List<Word> out) {
+        while (from < to && text.charAt(from) <= ' ') from++;
+        while (to > from && text.charAt(to - 1) <= ' ') to--;
+        if (from >= to) return;
+
+        int tab1 = text.indexOf('\t', from);
+        if (tab1 < 0 || tab1 >= to) return;
+        int tab2 = text.indexOf('\t', tab1 + 1);
+        if (tab2 < 0 || tab2 > to) tab2 = to;
+
+        String eng = text.substring(from, tab1).trim();
+        String kor = text.substring(tab1 + 1, tab2).trim();
+        out.add(new Word(eng, kor));
+    }
+}
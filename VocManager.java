@@ -4,80 +4,289 @@ import javax.swing.*;
 import javax.swing.text.JTextComponent;
 import java.awt.Component;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Random;
+import java.util.List;
+import java.util.Map;
 import java.util.Vector;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// 사용자 한 명의 단어장. 기본 단어장(BaseDictionary)은 모든 사용자가 같이 쓰고,
+// 이 사용자의 추가/수정/삭제는 그 위의 층(저장소와 색인마다 하나)에만 담는다.
+// 층은 <user>_overlay.txt (저널 형식으로 쓴 층 전체) + <user>_overlay.journal 에 저장된다.
 public class VocManager {
 
+    // 저널이 이만큼 쌓이면 백그라운드에서 층 파일로 압축
+    private static final int JOURNAL_COMPACT_THRESHOLD = 1000;
+
     private String userName;
-    Vector<Word> voc = new Vector<>();
+    private final BaseDictionary base;
+    VocStore voc;
+    private final SortedWordIndex sortedVoc;
+    // 아래 색인은 처음 쓸 때 만든다 (기본 단어장 쪽 색인도 그때 한 번)
+    private final LazyLayer<SearchIndex> searchIndex;
+    private final LazyLayer<FuzzyIndex> fuzzyIndex;
+    private final LazyLayer<WordlePool> wordlePool;
+    private final LazyLayer<DistractorEngine> distractors;
+    private final ReviewScheduler scheduler;
+    private volatile AnswerMatcher answerMatcher = new AnswerMatcher(1);   // 자모 오타 1 개까지
+    private final Map<Integer, WordleSolver> wordleSolvers = new ConcurrentHashMap<>();   // 글자 수별
+    private final List<VocListener> listeners = new CopyOnWriteArrayList<>();
+    private final Object writeLock = new Object();   // addWord / editWord / deleteWord
     Vector<Word> wrongNotes = new Vector<>();
 
-    private String vocFileName;
+    private String vocFileName;       // 공용 기본 단어장
+    private String overlayFileName;   // 이 사용자의 층
     private String wrongNoteFileName;
-    private String wordleLogFileName;   // Wordle archive
+    private final WordleArchive wordleArchive;
+    private final Path saveCommitFile;   // 여러 파일 저장의 커밋 기록 (AtomicFiles)
+    private final Path reviewFile;       // 간격 반복 상태
+
+    private final VocJournal journal;
+    // 단어장/오답노트 파일 쓰기는 모두 이 스레드 하나에서 순서대로
+    private final ExecutorService vocWriter = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "voc-writer");
+        t.setDaemon(true);
+        return t;
+    });
 
     public VocManager(String userName) {
+        this(userName, "src/team10/words.txt");
+    }
+
+    // vocFileName: 공용 기본 단어장 대신 쓸 단어장 파일 (벤치마크 등)
+    public VocManager(String userName, String vocFileName) {
         this.userName = userName;
-        this.vocFileName = "src/team10/words.txt";
+        this.vocFileName = vocFileName;
+        this.overlayFileName = userName + "_overlay.txt";
         this.wrongNoteFileName = userName + "_wrong_notes.txt";
-        this.wordleLogFileName = userName + "_wordle_log.txt";
-
-        loadVocFromFile();
+        this.wordleArchive = new WordleArchive(Paths.get(userName + "_wordle_log.txt"));
+        this.saveCommitFile = Paths.get(userName + "_save.commit");
+        this.reviewFile = Paths.get(userName + "_review.bin");
+
+        AtomicFiles.recover(saveCommitFile);   // 저장 도중 종료됐으면 먼저 마무리
+        this.base = BaseDictionary.of(vocFileName);
+        this.voc = new VocStore(base.voc);
+        this.sortedVoc = new SortedWordIndex(base.sorted);
+        this.searchIndex = new LazyLayer<>(() -> new SearchIndex(base.search()),
+                SearchIndex::add, SearchIndex::remove, SearchIndex::update);
+        this.fuzzyIndex = new LazyLayer<>(() -> new FuzzyIndex(base.fuzzy()),
+                FuzzyIndex::add, FuzzyIndex::remove, null);
+        this.wordlePool = new LazyLayer<>(() -> new WordlePool(base.wordle()),
+                WordlePool::add, WordlePool::remove, null);
+        this.distractors = new LazyLayer<>(() -> new DistractorEngine(sortedVoc, base.distractors()),
+                DistractorEngine::add, DistractorEngine::remove, DistractorEngine::update);
+        this.scheduler = new ReviewScheduler(sortedVoc);
+        this.journal = new VocJournal(journalPathOf(overlayFileName));
+        loadOverlay();
+        scheduler.load(reviewFile);
         loadWrongNotes();
     }
 
     public String getUserName() { return userName; }
-    public Vector<Word> getVoc() { return voc; }
+    public Collection<Word> getVoc() { return voc.values(); }
+    // 소문자 키 순으로 항상 정렬된 뷰 (순위 조회/범위 조회용, 읽기 전용으로 사용)
+    public SortedWordIndex getSortedVoc() { return sortedVoc; }
+    public DistractorEngine getDistractors() { return distractors.get(); }
+    public AnswerMatcher getAnswerMatcher() { return answerMatcher; }
+
+    // 주관식 채점에서 봐줄 자모 오타 수 (0 이면 공백/부호 차이만 무시)
+    public void setAnswerTolerance(int jamoTypos) {
+        answerMatcher = new AnswerMatcher(jamoTypos);
+    }
     public Vector<Word> getWrongNotes() { return wrongNotes; }
+    public ReviewScheduler getReviewScheduler() { return scheduler; }
+
+    // 리스너는 단어장을 바꾼 스레드에서, 바꾼 직후 쓰기 잠금 안에서 불린다
+    public void addVocListener(VocListener l) { listeners.add(l); }
+    public void removeVocListener(VocListener l) { listeners.remove(l); }
+
+    // 진행 중인 변경(과 그 리스너 알림)이 끝난 상태에서 read 를 실행한다.
+    // 그동안 변경이 멈추므로 몇 개만 읽는 짧은 조회에만 쓴다
+    public <T> T readConsistent(Supplier<T> read) {
+        synchronized (writeLock) {
+            return read.get();
+        }
+    }
 
     /* ================== 파일 로드 / 저장 ================== */
 
-    private void loadVocFromFile() {
-        File f = new File(vocFileName);
-        if (!f.exists()) return;
+    // 이 사용자의 층 전체를 층 파일에 쓰고 저널을 비운다 (쓰기가 끝날 때까지 기다림).
+    // 평소의 추가/수정/삭제는 저널에 남으므로 종료할 때만 부르면 된다. 공용 기본 단어장은 쓰지 않는다.
+    public void saveVocToFile() {
+        try {
+            saveInBackground(false).join();
+        } catch (CompletionException e) {
+            // 오류 메시지는 저장 스레드에서 이미 출력
+        }
+    }
 
-        try (BufferedReader br = new BufferedReader(new FileReader(f))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) continue;
-                String[] temp = line.split("\t");
-                if (temp.length >= 2) {
-                    addWord(temp[0].trim(), temp[1].trim());
+    // 현재 층(과 오답노트, 복습 기록) 사본을 잡고 저널을 돌린 뒤, 백그라운드에서 한 단위로 저장한다.
+    // 모두 임시 파일 → fsync → rename 이라 중간에 죽어도 반쯤 쓴 파일이 남지 않는다.
+    // 사본과 저널 돌리기는 한 잠금 안에서: 사이에 낀 변경이 .old 로 가서 사본에도 없이 지워지지 않도록
+    private CompletableFuture<Void> saveInBackground(boolean withUserFiles) {
+        synchronized (writeLock) {
+            List<String> deleted = voc.deletedKeys();
+            List<Word> changed = voc.changedWords();
+            List<Word> wrongCopy = withUserFiles ? new ArrayList<>(wrongNotes) : null;
+            byte[] reviewState = withUserFiles ? encodeReviewState() : null;
+            int compaction;
+            try {
+                compaction = journal.beginCompaction();
+            } catch (IOException e) {
+                System.out.println("저널 압축 오류: " + e.getMessage());
+                compaction = -1;
+            }
+            // 저장 스레드는 하나뿐이라 잠금 안에서 넘기면 압축 순서대로 쓴다
+            return writeSnapshot(deleted, changed, wrongCopy, reviewState, compaction);
+        }
+    }
+
+    private CompletableFuture<Void> writeSnapshot(List<String> deleted, List<Word> changed,
+                                                  List<Word> wrongCopy, byte[] reviewState, int begun) {
+        return CompletableFuture.runAsync(() -> {
+            AtomicFiles.Batch batch = new AtomicFiles.Batch(saveCommitFile);
+            try {
+                batch.add(Paths.get(overlayFileName), out -> VocJournal.writeState(out, deleted, changed));
+                if (wrongCopy != null) addWordFiles(batch, wrongNoteFileName, wrongCopy);
+                if (reviewState != null) batch.add(reviewFile, out -> out.write(reviewState));
+            } catch (IOException e) {
+                batch.abort();   // 기존 파일은 그대로
+                throw saveFailed(e);
+            }
+            try {
+                batch.commit();
+            } catch (IOException e) {
+                throw saveFailed(e);   // 커밋 파일이 남아 있으면 다음 시작 때 마저 반영
+            }
+            if (begun > 0) {
+                try {
+                    journal.finishCompaction(begun);
+                } catch (IOException e) {
+                    System.out.println("저널 정리 오류: " + e.getMessage());
                 }
             }
+        }, vocWriter);
+    }
+
+    private byte[] encodeReviewState() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            scheduler.writeTo(bytes);
         } catch (IOException e) {
-            System.out.println("단어장 파일 읽기 오류: " + e.getMessage());
+            throw new UncheckedIOException(e);   // 메모리 스트림이라 일어나지 않음
         }
+        return bytes.toByteArray();
     }
 
-    public void saveVocToFile() {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(vocFileName))) {
-            for (Word w : voc) {
-                pw.println(w.getEng() + "\t" + w.getKor());
+    // 다 쓴 사용자를 닫는다: 진행 중인 저장을 마치고 저널과 Wordle 기록을 디스크에 내린 뒤 스레드를 끝낸다.
+    // 층 파일로 압축하지는 않으므로 필요하면 먼저 saveAll(). 닫은 뒤에는 단어장을 고치지 않는다
+    public void close() {
+        synchronized (writeLock) {
+            vocWriter.shutdown();   // 고치는 도중에 저장 작업이 새로 들어오지 않도록 잠금 안에서
+        }
+        try {
+            if (!vocWriter.awaitTermination(30, TimeUnit.SECONDS)) {
+                System.out.println("저장 작업이 끝나지 않아 기다리지 않고 닫습니다");
             }
-        } catch (IOException e) {
-            System.out.println("단어장 파일 저장 오류: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+        journal.close();
+        wordleArchive.close();
+    }
+
+    private static UncheckedIOException saveFailed(IOException e) {
+        System.out.println("파일 저장 오류: " + e.getMessage());
+        return new UncheckedIOException(e);
+    }
+
+    // 텍스트 파일과 그 스냅샷을 batch 에 넣는다.
+    // 스냅샷에는 임시 텍스트 파일의 크기/수정시각을 기록한다 (rename 해도 그대로 유지됨)
+    private static void addWordFiles(AtomicFiles.Batch batch, String textFileName,
+                                     Collection<Word> words) throws IOException {
+        Path text = batch.add(Paths.get(textFileName), out -> writeText(out, words));
+        byte[] snap = VocSnapshot.encode(words, text);
+        batch.add(snapshotPathOf(textFileName), out -> out.write(snap));
+    }
+
+    private static void writeText(OutputStream out, Collection<Word> words) throws IOException {
+        PrintWriter pw = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (Word w : words) {
+            pw.println(w.getEng() + "\t" + w.getKor());
+        }
+        pw.flush();
+        if (pw.checkError()) throw new IOException("쓰기 실패");
+    }
+
+    // 층 파일(마지막 저장 때의 층) + 그 이후의 저널을 기본 단어장 위에 다시 적용 (저널에는 다시 쓰지 않음)
+    private void loadOverlay() {
+        List<String[]> ops = VocJournal.read(Paths.get(overlayFileName));
+        int saved = ops.size();
+        ops.addAll(journal.replay());
+        for (String[] op : ops) {
+            switch (op[0].charAt(0)) {
+                case VocJournal.ADD:
+                case VocJournal.EDIT:
+                    if (voc.get(op[1]) != null) applyEdit(voc.get(op[1]), op[2]);
+                    else applyAdd(new Word(op[1], op[2]));
+                    break;
+                case VocJournal.DELETE:
+                    applyDelete(op[1]);
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (!ops.isEmpty()) {
+            System.out.println(userName + " 단어장 층: 저장 " + saved + "건 + 저널 " + (ops.size() - saved) + "건");
+        }
+    }
+
+    // words.txt → words.journal
+    static Path journalPathOf(String textFileName) {
+        String base = textFileName.endsWith(".txt")
+                ? textFileName.substring(0, textFileName.length() - 4) : textFileName;
+        return Paths.get(base + ".journal");
     }
 
     private void loadWrongNotes() {
+        VocSnapshot snap = VocSnapshot.open(snapshotPathOf(wrongNoteFileName), Paths.get(wrongNoteFileName));
+        if (snap != null) {
+            synchronized (wrongNotes) {
+                for (Word w : snap.words()) {
+                    if (!wrongNotes.contains(w)) wrongNotes.add(w);
+                }
+            }
+            return;
+        }
+
         File f = new File(wrongNoteFileName);
         if (!f.exists()) return;
 
-        try (BufferedReader br = new BufferedReader(new FileReader(f))) {
+        try (BufferedReader br = utf8Reader(f)) {
             String line;
             while ((line = br.readLine()) != null) {
                 line = line.trim();
                 if (line.isEmpty()) continue;
                 String[] temp = line.split("\t");
                 if (temp.length >= 2) {
-                    Word w = new Word(temp[0].trim(), temp[1].trim());
-                    if (!wrongNotes.contains(w)) {
-                        wrongNotes.add(w);
-                    }
+                    addWrongNote(new Word(temp[0].trim(), temp[1].trim()));
                 }
             }
         } catch (IOException e) {
@@ -85,71 +294,202 @@ public class VocManager {
         }
     }
 
-    public void saveWrongNotes() {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(wrongNoteFileName))) {
-            for (Word w : wrongNotes) {
-                pw.println(w.getEng() + "\t" + w.getKor());
+    // words.txt → words.snap
+    static Path snapshotPathOf(String textFileName) {
+        String base = textFileName.endsWith(".txt")
+                ? textFileName.substring(0, textFileName.length() - 4) : textFileName;
+        return Paths.get(base + ".snap");
+    }
+
+    /* ---- 텍스트 가져오기 / 내보내기 (직접 편집용) ---- */
+
+    // 새 단어만 추가하고 추가된 개수를 돌려준다
+    public int importText(File f) throws IOException {
+        int added = 0;
+        for (Word w : VocLoader.load(f.toPath()).words) {
+            if (isValidText(w.getEng()) && isValidText(w.getKor()) && addWord(w.getEng(), w.getKor()) != null) {
+                added++;
             }
-        } catch (IOException e) {
-            System.out.println("오답노트 파일 저장 오류: " + e.getMessage());
         }
+        return added;
     }
 
-    public void saveAll() {
-        saveVocToFile();
-        saveWrongNotes();
+    public void exportText(File f) throws IOException {
+        List<Word> copy = new ArrayList<>(voc.values());
+        AtomicFiles.write(f.toPath(), out -> writeText(out, copy));
+    }
+
+    // 단어장 + 오답노트 + 복습 기록을 한 단위로 저장 (voc-writer 스레드에서, 끝나면 완료되는 Future).
+    // 종료할 때는 join 으로 기다린 뒤 끝내야 한다
+    public CompletableFuture<Void> saveAll() {
+        return saveInBackground(true);
+    }
+
+    // 한글 뜻이 플랫폼 기본 인코딩에 따라 깨지지 않도록 항상 UTF-8
+    private static BufferedReader utf8Reader(File f) throws IOException {
+        return new BufferedReader(new InputStreamReader(new FileInputStream(f), StandardCharsets.UTF_8));
     }
 
     /* ================== 기본 단어 조작 ================== */
 
-    public void addWord(String eng, String kor) {
+    // 추가/수정/삭제는 메모리에 반영한 뒤 저널에 한 줄 남긴다 (파일 전체를 다시 쓰지 않음).
+    // 여러 스레드(서버 등)에서 불러도 색인들과 저널 순서가 어긋나지 않도록 변경끼리는 한 줄로 세운다.
+    // 조회는 잠그지 않는다
+    // 추가한 Word, 이미 같은 단어가 있으면 null
+    public Word addWord(String eng, String kor) {
+        checkText(eng);
+        checkText(kor);
         Word w = new Word(eng, kor);
-        if (!voc.contains(w)) {
-            voc.add(w);
+        synchronized (writeLock) {
+            if (!applyAdd(w)) return null;
+            journal(VocJournal.ADD, w.getEng(), w.getKor());
+            return w;
         }
     }
 
     public Word searchWord(String eng) {
-        if (eng == null) return null;
-        String target = eng.trim().toLowerCase();
-        for (Word w : voc) {
-            if (w.getEng().toLowerCase().equals(target)) return w;
-        }
-        return null;
+        return voc.get(eng);
     }
 
     public boolean deleteWord(String eng) {
-        Word w = searchWord(eng);
-        if (w != null) {
-            voc.remove(w);
-            return true;
+        synchronized (writeLock) {
+            Word w = applyDelete(eng);
+            if (w != null) {
+                journal(VocJournal.DELETE, w.getEng(), null);
+                return true;
+            }
+            return false;
         }
-        return false;
     }
 
-    public void editWord(String eng, String newKor) {
-        Word w = searchWord(eng);
+    // 고친 뒤 단어장에 있는 Word (기본 단어장 단어면 사본), 없는 단어면 null
+    public Word editWord(String eng, String newKor) {
+        checkText(newKor);
+        synchronized (writeLock) {
+            Word w = searchWord(eng);
+            if (w == null) return null;
+            w = applyEdit(w, newKor);
+            journal(VocJournal.EDIT, w.getEng(), newKor);
+            return w;
+        }
+    }
+
+    // 저널/내보내기/워들 기록은 탭·줄바꿈으로 필드를 나누므로 제어 문자가 든 값은 받지 않는다
+    public static boolean isValidText(String s) {
+        if (s == null || s.isEmpty()) return false;
+        for (int i = 0; i < s.length(); i++) {
+            if (Character.isISOControl(s.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static void checkText(String s) {
+        if (!isValidText(s)) throw new IllegalArgumentException("제어 문자가 들어 있거나 빈 값입니다");
+    }
+
+    private boolean applyAdd(Word w) {
+        if (!voc.add(w)) return false;
+        sortedVoc.add(w);
+        searchIndex.add(w);
+        fuzzyIndex.add(w);
+        wordlePool.add(w);
+        distractors.add(w);
+        for (VocListener l : listeners) l.wordAdded(w);
+        return true;
+    }
+
+    private Word applyDelete(String eng) {
+        Word w = voc.remove(eng);
         if (w != null) {
+            sortedVoc.remove(w);
+            searchIndex.remove(w);
+            fuzzyIndex.remove(w);
+            wordlePool.remove(w);
+            distractors.remove(w);
+            scheduler.remove(w);
+            for (VocListener l : listeners) l.wordRemoved(w);
+        }
+        return w;
+    }
+
+    // 공용 기본 단어장의 Word 는 다른 사용자도 보고 있으므로 고치지 않고 사본으로 바꿔 끼운다 (copy-on-write).
+    // 이 사용자가 추가한 단어는 그대로 고친다. 단어장에 남는 Word 를 돌려준다
+    private Word applyEdit(Word w, String newKor) {
+        if (voc.inLayer(w.getKey())) {
             w.setKor(newKor);
+            searchIndex.update(w);
+            distractors.update(w);
+        } else {
+            Word copy = new Word(w.getEng(), newKor);
+            voc.replace(copy);
+            sortedVoc.remove(w);
+            sortedVoc.add(copy);
+            searchIndex.remove(w);
+            searchIndex.add(copy);
+            fuzzyIndex.remove(w);
+            fuzzyIndex.add(copy);
+            wordlePool.remove(w);
+            wordlePool.add(copy);
+            distractors.remove(w);
+            distractors.add(copy);
+            scheduler.update(copy);
+            w = copy;
+        }
+        for (VocListener l : listeners) l.wordChanged(w);
+        return w;
+    }
+
+    private void journal(char op, String eng, String kor) {
+        journal.append(op, eng, kor);
+        if (journal.getRecordCount() >= JOURNAL_COMPACT_THRESHOLD) {
+            saveInBackground(false);
         }
     }
 
+    // eng 접두어/부분 문자열, kor 부분 문자열 검색 (순위순, 최대 limit 개)
+    public List<Word> search(String keyword, int limit) {
+        return searchIndex.get().search(keyword, limit);
+    }
+
+    // 철자가 틀렸을 때 "혹시 이 단어?" 후보 (편집 거리 2 이내, 가까운 순)
+    public List<Word> suggestWords(String eng, int limit) {
+        return fuzzyIndex.get().suggest(eng, limit);
+    }
+
+    // contains 와 add 를 한 번에 (Vector 의 잠금을 그대로 쓴다)
     private void addWrongNote(Word w) {
         if (w == null) return;
-        if (!wrongNotes.contains(w)) {
-            wrongNotes.add(new Word(w.getEng(), w.getKor()));
+        synchronized (wrongNotes) {
+            if (!wrongNotes.contains(w)) {
+                wrongNotes.add(new Word(w.getEng(), w.getKor()));
+            }
         }
     }
 
-    private Vector<Word> getRandomQuestions(Vector<Word> source, int count) {
-        Vector<Word> list = new Vector<>(source);
-        Collections.shuffle(list);
-        if (list.size() > count) {
-            Vector<Word> result = new Vector<>();
-            for (int i = 0; i < count; i++) result.add(list.get(i));
-            return result;
+    // 오답노트 문제: 많이 틀린 단어일수록 자주 나오도록 (가중치 1 + 틀린 횟수)
+    private List<Word> sampleWrongNotes(int count) {
+        synchronized (wrongNotes) {
+            return WordSampler.weighted(wrongNotes, count, w -> {
+                ReviewScheduler.Card c = scheduler.getCard(w);
+                return 1 + (c == null ? 0 : c.getLapses());
+            }, null, ThreadLocalRandom.current());
         }
-        return list;
+    }
+
+    // 복습 일정과 상관없이 무작위 count 개 (filter 가 null 이면 전체에서). 단어장을 복사해 섞지 않는다
+    public List<Word> getRandomQuestions(int count, Predicate<? super Word> filter) {
+        return WordSampler.sample(sortedVoc, count, filter, ThreadLocalRandom.current());
+    }
+
+    // 객관식 보기: answer 와 헷갈리기 쉬운 오답(DistractorEngine HARD)을 합쳐 choices 개, 섞은 순서.
+    // 단어장이 작으면 choices 보다 적을 수 있다
+    public List<Word> multipleChoice(Word answer, int choices) {
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        List<Word> options = new ArrayList<>(choices);
+        options.add(answer);
+        options.addAll(distractors.get().pick(answer, choices - 1, DistractorEngine.Mode.HARD, rand));
+        Collections.shuffle(options, rand);
+        return options;
     }
 
     /* ================== QUIZ (Swing) ================== */
@@ -172,7 +512,8 @@ public class VocManager {
         if (n <= 0) return;
         if (n > voc.size()) n = voc.size();
 
-        Vector<Word> questions = getRandomQuestions(voc, n);
+        List<Word> questions = scheduler.next(n);   // 복습할 때가 된 단어부터
+        n = Math.min(n, questions.size());
         int score = 0;
         StringBuilder log = new StringBuilder("[Written Quiz ENG→KOR]\n");
 
@@ -185,7 +526,8 @@ public class VocManager {
                 break;
             }
             String userAns = answer.trim();
-            if (userAns.equalsIgnoreCase(q.getKor())) {
+            boolean correct = answerMatcher.matchesKor(q, userAns);
+            if (correct) {
                 score++;
                 log.append(i + 1).append(") ").append(q.getEng())
                         .append(" : 정답! (").append(q.getKor()).append(")\n");
@@ -195,6 +537,7 @@ public class VocManager {
                         .append(", 정답: ").append(q.getKor()).append(")\n");
                 addWrongNote(q);
             }
+            scheduler.review(q, correct);
         }
 
         log.append("\n점수: ").append(score).append(" / ").append(n).append("\n");
@@ -221,7 +564,8 @@ public class VocManager {
         if (n <= 0) return;
         if (n > voc.size()) n = voc.size();
 
-        Vector<Word> questions = getRandomQuestions(voc, n);
+        List<Word> questions = scheduler.next(n);   // 복습할 때가 된 단어부터
+        n = Math.min(n, questions.size());
         int score = 0;
         StringBuilder log = new StringBuilder("[Written Quiz KOR→ENG]\n");
 
@@ -234,7 +578,8 @@ public class VocManager {
                 break;
             }
             String userAns = answer.trim();
-            if (userAns.equalsIgnoreCase(q.getEng())) {
+            boolean correct = answerMatcher.matchesEng(q, userAns);
+            if (correct) {
                 score++;
                 log.append(i + 1).append(") ").append(q.getKor())
                         .append(" : 정답! (").append(q.getEng()).append(")\n");
@@ -244,6 +589,7 @@ public class VocManager {
                         .append(", 정답: ").append(q.getEng()).append(")\n");
                 addWrongNote(q);
             }
+            scheduler.review(q, correct);
         }
 
         log.append("\n점수: ").append(score).append(" / ").append(n).append("\n");
@@ -270,7 +616,7 @@ public class VocManager {
         if (n <= 0) return;
         if (n > wrongNotes.size()) n = wrongNotes.size();
 
-        Vector<Word> questions = getRandomQuestions(wrongNotes, n);
+        List<Word> questions = sampleWrongNotes(n);
         int score = 0;
         StringBuilder log = new StringBuilder("[Written Quiz from Wrong Notes]\n");
         Vector<Word> toRemove = new Vector<>();
@@ -284,7 +630,8 @@ public class VocManager {
                 break;
             }
             String userAns = answer.trim();
-            if (userAns.equalsIgnoreCase(q.getKor())) {
+            boolean correct = answerMatcher.matchesKor(q, userAns);
+            if (correct) {
                 score++;
                 log.append(i + 1).append(") ").append(q.getEng())
                         .append(" : 정답! (").append(q.getKor()).append(")\n");
@@ -294,6 +641,7 @@ public class VocManager {
                         .append(" : 오답 (입력: ").append(userAns)
                         .append(", 정답: ").append(q.getKor()).append(")\n");
             }
+            scheduler.review(q, correct);
         }
 
         wrongNotes.removeAll(toRemove);
@@ -307,72 +655,100 @@ public class VocManager {
     /* ================== Wordle Helper + Archive ================== */
 
     public Word chooseWordleTarget() {
-        Vector<Word> candidates = new Vector<>();
-        for (Word w : voc) {
-            String e = w.getEng();
-            if (e != null &&
-                    e.length() == 5 &&
-                    !e.contains(" ") &&
-                    e.matches("[A-Za-z]{5}")) {
-                candidates.add(w);
-            }
-        }
-        if (candidates.isEmpty()) return null;
-        Random rand = new Random();
-        return candidates.get(rand.nextInt(candidates.size()));
+        return chooseWordleTarget(5);
     }
 
-    public static String generateWordleFeedback(String targetWord, String guess) {
-        char[] result = new char[5];
-        Vector<Character> remaining = new Vector<>();
-        for (char c : targetWord.toCharArray()) remaining.add(c);
-
-        for (int i = 0; i < 5; i++) {
-            if (guess.charAt(i) == targetWord.charAt(i)) {
-                result[i] = '⭐';
-                remaining.remove((Character) targetWord.charAt(i));
-            } else {
-                result[i] = ' ';
-            }
-        }
+    // length 글자 (WordlePool.MIN_LENGTH~MAX_LENGTH) 후보 중 무작위, 없으면 null
+    public Word chooseWordleTarget(int length) {
+        return wordlePool.get().random(length);
+    }
 
-        for (int i = 0; i < 5; i++) {
-            if (result[i] == ' ') {
-                char g = guess.charAt(i);
-                if (remaining.contains(g)) {
-                    result[i] = '⟳';
-                    remaining.remove((Character) g);
-                } else {
-                    result[i] = 'x';
-                }
-            }
+    public WordlePool getWordlePool() { return wordlePool.get(); }
+
+    // length 글자 후보로 만든 힌트 엔진. 후보가 바뀌었으면 새로 만든다 (수천 단어면 수백 ms, EDT 밖에서 호출).
+    // 이 사용자가 그 글자 수의 후보를 건드리지 않았으면 기본 단어장의 것을 같이 쓴다
+    public WordleSolver getWordleSolver(int length) {
+        WordlePool pool = wordlePool.get();
+        if (pool.version(length) == 0) return base.wordleSolver(length);   // 후보가 기본 단어장 그대로
+        List<Word> candidates;
+        int version;
+        synchronized (pool) {
+            version = pool.version(length);
+            WordleSolver cached = wordleSolvers.get(length);
+            if (cached != null && cached.getVersion() == version) return cached;
+            candidates = pool.candidates(length);
         }
-        return new String(result);
+        WordleSolver solver = new WordleSolver(candidates, length, version);
+        wordleSolvers.put(length, solver);
+        return solver;
+    }
+
+    public static String generateWordleFeedback(String targetWord, String guess) {
+        return WordleFeedback.render(WordleFeedback.score(targetWord, guess), targetWord.length());
     }
 
-    // ---- Wordle 로그 ----
-    public void appendWordleLog(String entry) {
-        try (FileWriter fw = new FileWriter(wordleLogFileName, true);
-             PrintWriter pw = new PrintWriter(fw)) {
-            pw.println(entry);
+    // ---- Wordle 기록 ----
+    public void recordWordleGame(boolean success, String target, int tries, String kor) {
+        try {
+            wordleArchive.append(new WordleArchive.Record(success, target.toUpperCase(), tries, kor,
+                    LocalDateTime.now()));
         } catch (IOException e) {
             System.out.println("Wordle 로그 저장 오류: " + e.getMessage());
         }
     }
 
-    public String loadWordleLog() {
-        File f = new File(wordleLogFileName);
-        if (!f.exists()) return "아직 Wordle 기록이 없습니다.";
+    public WordleArchive getWordleArchive() { return wordleArchive; }
+
+    /* ================== 처음 쓸 때 만드는 층 ================== */
+
+    // 기본 단어장 색인 위의 층. 처음 get() 할 때 base 색인으로 만들고, 그때까지 이 사용자가 바꾼 것(voc 층)을
+    // 다시 얹는다. 만들기 전의 add/remove/update 는 할 일이 없다 (만들 때 voc 에서 가져오므로).
+    // 오래 걸리는 base 색인 만들기는 잠금 밖에서 하고 (그동안 다른 변경이 막히지 않도록),
+    // 층을 다시 얹고 내보이는 것만 writeLock 안이라 그 사이의 변경이 빠지거나 두 번 들어가지 않는다
+    private final class LazyLayer<T> {
+        private final Supplier<T> create;
+        private final BiConsumer<T, Word> add, remove, update;   // update 는 null 이면 할 일 없음 (영어 키로만 찾는 색인)
+        private volatile T index;
+
+        LazyLayer(Supplier<T> create, BiConsumer<T, Word> add, BiConsumer<T, Word> remove,
+                  BiConsumer<T, Word> update) {
+            this.create = create;
+            this.add = add;
+            this.remove = remove;
+            this.update = update;
+        }
 
-        StringBuilder sb = new StringBuilder();
-        try (BufferedReader br = new BufferedReader(new FileReader(f))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                sb.append(line).append("\n");
+        T get() {
+            T i = index;
+            if (i != null) return i;
+            T built = create.get();   // 빈 층: base 색인만 잡고 이 사용자의 변경은 아직 없음
+            synchronized (writeLock) {
+                if (index == null) {
+                    for (String key : voc.deletedKeys()) remove.accept(built, base.voc.get(key));
+                    for (Word w : voc.changedWords()) {
+                        Word old = base.voc.get(w.getKey());
+                        if (old != null) remove.accept(built, old);   // 사본으로 바뀐 base 단어
+                        add.accept(built, w);
+                    }
+                    index = built;
+                }
+                return index;
             }
-        } catch (IOException e) {
-            return "Wordle 로그를 읽는 중 오류가 발생했습니다.\n" + e.getMessage();
         }
-        return sb.toString();
+
+        void add(Word w) {
+            T i = index;
+            if (i != null) add.accept(i, w);
+        }
+
+        void remove(Word w) {
+            T i = index;
+            if (i != null) remove.accept(i, w);
+        }
+
+        void update(Word w) {
+            T i = index;
+            if (i != null && update != null) update.accept(i, w);
+        }
     }
 }
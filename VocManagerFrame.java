@@ -2,20 +2,25 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
 import java.util.Vector;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class VocManagerFrame extends JFrame {
 
     private final VocManager manager;
 
     // left list
-    private final DefaultListModel<Word> listModel = new DefaultListModel<>();
-    private final JList<Word> wordList = new JList<>(listModel);
+    private final WordListModel listModel;
+    private final JList<Word> wordList;
 
     // top search
     private final JTextField searchField = new JTextField(20);
+    private final JLabel searchTimeLabel = new JLabel(" ");
+    private LiveSearch liveSearch;
+    private static final int SEARCH_LIMIT = 1000;
+    private static final int SEARCH_DELAY_MS = 150;
 
     // right detail
     private final JLabel engLabel = new JLabel(" ");
@@ -34,8 +39,13 @@ public class VocManagerFrame extends JFrame {
     private static final int WORDLE_MAX_ATTEMPTS = 6;
     private boolean wordleRunning = false;
 
+    // 객관식 오답 보기: 아무 단어 / 뜻·철자·길이가 비슷한 단어
+    private DistractorEngine.Mode choiceMode = DistractorEngine.Mode.RANDOM;
+
     public VocManagerFrame(VocManager manager) {
         this.manager = manager;
+        this.listModel = new WordListModel(manager);
+        this.wordList = new JList<>(listModel);
 
         setTitle("Vocabulary - " + manager.userName);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -83,6 +93,11 @@ public class VocManagerFrame extends JFrame {
         JButton searchBtn = new JButton("Go");
         searchBtn.addActionListener(this::onSearch);
         searchPanel.add(searchBtn);
+        searchPanel.add(searchTimeLabel);
+
+        // 입력하는 동안 백그라운드에서 검색해 목록을 결과로 교체
+        liveSearch = new LiveSearch(searchField, manager, SEARCH_LIMIT, SEARCH_DELAY_MS,
+                this::showSearchResults);
 
         JPanel container = new JPanel(new BorderLayout());
         container.add(top, BorderLayout.NORTH);
@@ -94,6 +109,8 @@ public class VocManagerFrame extends JFrame {
     private void initCenter() {
         // left list
         wordList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        // 고정 셀 높이: 단어가 많아도 JList 가 모든 셀을 재지 않도록
+        wordList.setPrototypeCellValue(new Word("MMMMMMMMMMMMMMMM", "가나다라마바사아"));
         wordList.addListSelectionListener(e -> {
             if (!e.getValueIsAdjusting()) {
                 Word w = wordList.getSelectedValue();
@@ -181,6 +198,11 @@ public class VocManagerFrame extends JFrame {
         m2.addActionListener(e -> onMultiQuizKorToEng());
         menu.add(m2);
 
+        JCheckBoxMenuItem hard = new JCheckBoxMenuItem("Hard choices (비슷한 단어로 보기)");
+        hard.addActionListener(e -> choiceMode = hard.isSelected()
+                ? DistractorEngine.Mode.HARD : DistractorEngine.Mode.RANDOM);
+        menu.add(hard);
+
         JMenuItem wrong = new JMenuItem("Written from Wrong Note");
         wrong.addActionListener(e -> onWrongNoteQuiz());
         menu.add(wrong);
@@ -195,16 +217,32 @@ public class VocManagerFrame extends JFrame {
 
         JMenuItem saveItem = new JMenuItem("Save now");
         saveItem.addActionListener(e -> {
-            manager.saveAll();
-            JOptionPane.showMessageDialog(this,
-                    "단어장과 오답노트가 저장되었습니다.",
-                    "Save", JOptionPane.INFORMATION_MESSAGE);
+            // 디스크 쓰기는 백그라운드에서, 결과 안내만 EDT 로
+            manager.saveAll().whenComplete((ok, err) -> SwingUtilities.invokeLater(() -> {
+                if (err == null) {
+                    JOptionPane.showMessageDialog(this,
+                            "단어장과 오답노트가 저장되었습니다.",
+                            "Save", JOptionPane.INFORMATION_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(this,
+                            "저장 중 오류가 발생했습니다.\n" + err.getCause().getMessage(),
+                            "Save", JOptionPane.ERROR_MESSAGE);
+                }
+            }));
         });
         menu.add(saveItem);
 
         JMenuItem exitItem = new JMenuItem("Exit (자동 저장)");
         exitItem.addActionListener(e -> {
-            manager.saveAll();
+            try {
+                manager.saveAll().join();   // 저장이 끝난 뒤에 종료
+            } catch (java.util.concurrent.CompletionException ex) {
+                int answer = JOptionPane.showConfirmDialog(this,
+                        "저장 중 오류가 발생했습니다.\n" + ex.getCause().getMessage()
+                                + "\n저장하지 않고 종료할까요?",
+                        "Exit", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+                if (answer != JOptionPane.YES_OPTION) return;
+            }
             dispose();
             System.exit(0);
         });
@@ -224,17 +262,28 @@ public class VocManagerFrame extends JFrame {
             return;
         }
 
-        for (int i = 0; i < listModel.size(); i++) {
-            Word w = listModel.get(i);
-            if (w.eng.equalsIgnoreCase(key)) {
-                wordList.setSelectedIndex(i);
-                wordList.ensureIndexIsVisible(i);
-                return;
-            }
+        Word found = manager.searchWord(key);
+        if (found != null) {
+            if (listModel.indexOf(found) < 0) listModel.clearFilter();
+            wordList.setSelectedValue(found, true);
+            return;
+        }
+        List<Word> similar = manager.suggestWords(key, 5);
+        if (similar.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                    "해당 단어를 찾을 수 없습니다: " + key,
+                    "Search", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        String[] choices = new String[similar.size()];
+        for (int i = 0; i < choices.length; i++) choices[i] = similar.get(i).getEng();
+        Object picked = JOptionPane.showInputDialog(this,
+                "해당 단어를 찾을 수 없습니다: " + key + "\n혹시 이 단어인가요?",
+                "Search", JOptionPane.QUESTION_MESSAGE, null, choices, choices[0]);
+        if (picked != null) {
+            listModel.clearFilter();
+            wordList.setSelectedValue(manager.searchWord((String) picked), true);
         }
-        JOptionPane.showMessageDialog(this,
-                "해당 단어를 찾을 수 없습니다: " + key,
-                "Search", JOptionPane.INFORMATION_MESSAGE);
     }
 
     private void onAddWord() {
@@ -261,17 +310,16 @@ public class VocManagerFrame extends JFrame {
                 return;
             }
 
-            for (Word w : manager.getVoc()) {
-                if (w.eng.equalsIgnoreCase(eng)) {
-                    JOptionPane.showMessageDialog(this,
-                            "이미 존재하는 단어입니다.",
-                            "Error", JOptionPane.ERROR_MESSAGE);
-                    return;
-                }
+            if (manager.searchWord(eng) != null) {
+                JOptionPane.showMessageDialog(this,
+                        "이미 존재하는 단어입니다.",
+                        "Error", JOptionPane.ERROR_MESSAGE);
+                return;
             }
 
             manager.addWord(eng, kor);
-            refreshWordList();
+            listModel.clearFilter();
+            wordList.setSelectedValue(manager.searchWord(eng), true);
         }
     }
 
@@ -295,9 +343,8 @@ public class VocManagerFrame extends JFrame {
             return;
         }
 
-        selected.kor = newKor;
-        refreshWordList();
-        wordList.setSelectedValue(selected, true);
+        manager.editWord(selected.getEng(), newKor);
+        showWordDetail(manager.searchWord(selected.getEng()));   // 공용 단어는 사본으로 바뀐다
     }
 
     private void onDeleteWord() {
@@ -314,14 +361,14 @@ public class VocManagerFrame extends JFrame {
                 "Delete", JOptionPane.YES_NO_OPTION);
 
         if (r == JOptionPane.YES_OPTION) {
-            manager.getVoc().remove(selected);
-            refreshWordList();
+            manager.deleteWord(selected.getEng());
+            showWordDetail(wordList.getSelectedValue());
         }
     }
 
     /* ---------- Written Quiz (ENG→KOR) ---------- */
     private void onQuizEngToKor() {
-        Vector<Word> all = manager.getVoc();
+        Collection<Word> all = manager.getVoc();
         if (all.isEmpty()) {
             JOptionPane.showMessageDialog(this,
                     "단어장이 비어 있어 퀴즈를 진행할 수 없습니다.",
@@ -331,9 +378,7 @@ public class VocManagerFrame extends JFrame {
         int n = askQuizCount(all.size());
         if (n <= 0) return;
 
-        List<Word> list = new ArrayList<>(all);
-        Collections.shuffle(list);
-        list = list.subList(0, n);
+        List<Word> list = WordSampler.sample(manager.getSortedVoc(), n, null, ThreadLocalRandom.current());
 
         int score = 0;
         for (Word q : list) {
@@ -342,7 +387,7 @@ public class VocManagerFrame extends JFrame {
             if (answer == null) continue;
             answer = answer.trim();
 
-            if (answer.equalsIgnoreCase(q.kor)) {
+            if (manager.getAnswerMatcher().matchesKor(q, answer)) {
                 JOptionPane.showMessageDialog(this, "정답!");
                 score++;
             } else {
@@ -359,7 +404,7 @@ public class VocManagerFrame extends JFrame {
 
     /* ---------- Written Quiz (KOR→ENG) ---------- */
     private void onQuizKorToEng() {
-        Vector<Word> all = manager.getVoc();
+        Collection<Word> all = manager.getVoc();
         if (all.isEmpty()) {
             JOptionPane.showMessageDialog(this,
                     "단어장이 비어 있어 퀴즈를 진행할 수 없습니다.",
@@ -369,9 +414,7 @@ public class VocManagerFrame extends JFrame {
         int n = askQuizCount(all.size());
         if (n <= 0) return;
 
-        List<Word> list = new ArrayList<>(all);
-        Collections.shuffle(list);
-        list = list.subList(0, n);
+        List<Word> list = WordSampler.sample(manager.getSortedVoc(), n, null, ThreadLocalRandom.current());
 
         int score = 0;
         for (Word q : list) {
@@ -380,7 +423,7 @@ public class VocManagerFrame extends JFrame {
             if (answer == null) continue;
             answer = answer.trim();
 
-            if (answer.equalsIgnoreCase(q.eng)) {
+            if (manager.getAnswerMatcher().matchesEng(q, answer)) {
                 JOptionPane.showMessageDialog(this, "정답!");
                 score++;
             } else {
@@ -397,7 +440,7 @@ public class VocManagerFrame extends JFrame {
 
     /* ---------- Multiple-choice (ENG→KOR) ---------- */
     private void onMultiQuizEngToKor() {
-        Vector<Word> all = manager.getVoc();
+        Collection<Word> all = manager.getVoc();
         if (all.size() < 4) {
             JOptionPane.showMessageDialog(this,
                     "객관식 퀴즈를 위해 최소 4개 이상의 단어가 필요합니다.",
@@ -407,21 +450,14 @@ public class VocManagerFrame extends JFrame {
         int n = askQuizCount(all.size());
         if (n <= 0) return;
 
-        List<Word> questions = new ArrayList<>(all);
-        Collections.shuffle(questions);
-        questions = questions.subList(0, n);
+        List<Word> questions = WordSampler.sample(manager.getSortedVoc(), n, null, ThreadLocalRandom.current());
 
         int score = 0;
 
         for (Word q : questions) {
             // 4 보기
-            List<Word> options = new ArrayList<>(all);
-            Collections.shuffle(options);
-            options = options.subList(0, 4);
-            if (!options.contains(q)) {
-                options.set(0, q);
-            }
-            Collections.shuffle(options);
+            List<Word> options = manager.getDistractors().pick(q, 3, choiceMode, ThreadLocalRandom.current());
+            options.add(ThreadLocalRandom.current().nextInt(options.size() + 1), q);
 
             StringBuilder msg = new StringBuilder();
             msg.append("영단어: ").append(q.eng).append("\n");
@@ -466,7 +502,7 @@ public class VocManagerFrame extends JFrame {
 
     /* ---------- Multiple-choice (KOR→ENG) ---------- */
     private void onMultiQuizKorToEng() {
-        Vector<Word> all = manager.getVoc();
+        Collection<Word> all = manager.getVoc();
         if (all.size() < 4) {
             JOptionPane.showMessageDialog(this,
                     "객관식 퀴즈를 위해 최소 4개 이상의 단어가 필요합니다.",
@@ -476,20 +512,13 @@ public class VocManagerFrame extends JFrame {
         int n = askQuizCount(all.size());
         if (n <= 0) return;
 
-        List<Word> questions = new ArrayList<>(all);
-        Collections.shuffle(questions);
-        questions = questions.subList(0, n);
+        List<Word> questions = WordSampler.sample(manager.getSortedVoc(), n, null, ThreadLocalRandom.current());
 
         int score = 0;
 
         for (Word q : questions) {
-            List<Word> options = new ArrayList<>(all);
-            Collections.shuffle(options);
-            options = options.subList(0, 4);
-            if (!options.contains(q)) {
-                options.set(0, q);
-            }
-            Collections.shuffle(options);
+            List<Word> options = manager.getDistractors().pick(q, 3, choiceMode, ThreadLocalRandom.current());
+            options.add(ThreadLocalRandom.current().nextInt(options.size() + 1), q);
 
             StringBuilder msg = new StringBuilder();
             msg.append("뜻: ").append(q.kor).append("\n");
@@ -545,9 +574,7 @@ public class VocManagerFrame extends JFrame {
         int n = askQuizCount(wrong.size());
         if (n <= 0) return;
 
-        List<Word> list = new ArrayList<>(wrong);
-        Collections.shuffle(list);
-        list = list.subList(0, n);
+        List<Word> list = WordSampler.sample(wrong, n, null, ThreadLocalRandom.current());
 
         int score = 0;
         List<Word> toRemove = new ArrayList<>();
@@ -558,7 +585,7 @@ public class VocManagerFrame extends JFrame {
             if (answer == null) continue;
             answer = answer.trim();
 
-            if (answer.equalsIgnoreCase(q.kor)) {
+            if (manager.getAnswerMatcher().matchesKor(q, answer)) {
                 JOptionPane.showMessageDialog(this, "정답!");
                 score++;
                 toRemove.add(q);
@@ -580,18 +607,8 @@ public class VocManagerFrame extends JFrame {
     /* ---------- Wordle: main window 아래에서 입력 ---------- */
 
     private void startWordle() {
-        Vector<Word> all = manager.getVoc();
-        List<Word> fiveLetter = new ArrayList<>();
-        for (Word w : all) {
-            if (w.eng != null &&
-                    w.eng.length() == 5 &&
-                    !w.eng.contains(" ") &&
-                    w.eng.matches("[A-Za-z]{5}")) {
-                fiveLetter.add(w);
-            }
-        }
-
-        if (fiveLetter.isEmpty()) {
+        Word target = manager.chooseWordleTarget();
+        if (target == null) {
             JOptionPane.showMessageDialog(this,
                     "Wordle 퀴즈를 위해 띄어쓰기 없는 5글자 영어 단어가 필요합니다.\n" +
                             "예: major, thesis 등",
@@ -599,8 +616,7 @@ public class VocManagerFrame extends JFrame {
             return;
         }
 
-        Collections.shuffle(fiveLetter);
-        wordleTarget = fiveLetter.get(0);
+        wordleTarget = target;
         wordleTargetWord = wordleTarget.eng.toLowerCase();
         wordleTargetKor = wordleTarget.kor;
         wordleAttempt = 0;
@@ -639,7 +655,7 @@ public class VocManagerFrame extends JFrame {
             gameArea.append("정답: " + wordleTargetWord + " (" + wordleTargetKor + ")\n");
             wordleRunning = false;
         } else {
-            String feedback = generateWordleFeedback(wordleTargetWord, guess);
+            String feedback = VocManager.generateWordleFeedback(wordleTargetWord, guess);
             gameArea.append(guess + "  ->  " + feedback + "\n");
 
             if (wordleAttempt >= WORDLE_MAX_ATTEMPTS) {
@@ -659,14 +675,28 @@ public class VocManagerFrame extends JFrame {
 
     /* ================== Helper ================== */
 
-    private void refreshWordList() {
-        listModel.clear();
-        List<Word> copy = new ArrayList<>(manager.getVoc());
-        copy.sort((a, b) -> a.eng.compareToIgnoreCase(b.eng));
-        for (Word w : copy) {
-            listModel.addElement(w);
+    // LiveSearch 가 EDT 에서 호출: 결과 리스트로 모델을 한 번에 교체
+    private void showSearchResults(String query, List<Word> results, List<Word> suggestions,
+                                   long latencyNanos) {
+        if (query.isEmpty()) {
+            listModel.clearFilter();
+            searchTimeLabel.setText(" ");
+            return;
         }
-        if (!copy.isEmpty()) {
+        if (results.isEmpty() && !suggestions.isEmpty()) {
+            listModel.setFilter(suggestions);
+            searchTimeLabel.setText("0건, 혹시 이 단어? / " + LiveSearch.formatLatency(latencyNanos));
+            return;
+        }
+        listModel.setFilter(results);
+        searchTimeLabel.setText(results.size() + "건 / " + LiveSearch.formatLatency(latencyNanos));
+        if (listModel.getSize() > 0) wordList.setSelectedIndex(0);
+    }
+
+    // 목록은 WordListModel 이 단어장 변경을 따라가므로 처음 선택만 잡아 준다
+    private void refreshWordList() {
+        listModel.clearFilter();
+        if (listModel.getSize() > 0) {
             wordList.setSelectedIndex(0);
         } else {
             showWordDetail(null);
@@ -717,36 +747,4 @@ public class VocManagerFrame extends JFrame {
             wrong.add(w);
         }
     }
-
-    private String generateWordleFeedback(String targetWord, String guess) {
-        char[] result = new char[5];
-        List<Character> remaining = new ArrayList<>();
-
-        for (char c : targetWord.toCharArray()) {
-            remaining.add(c);
-        }
-
-        for (int i = 0; i < 5; i++) {
-            if (guess.charAt(i) == targetWord.charAt(i)) {
-                result[i] = '⭐';
-                remaining.remove((Character) targetWord.charAt(i));
-            } else {
-                result[i] = ' ';
-            }
-        }
-
-        for (int i = 0; i < 5; i++) {
-            if (result[i] == ' ') {
-                char g = guess.charAt(i);
-                if (remaining.contains(g)) {
-                    result[i] = '⟳';
-                    remaining.remove((Character) g);
-                } else {
-                    result[i] = 'x';
-                }
-            }
-        }
-
-        return new String(result);
-    }
 }
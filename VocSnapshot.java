@@ -0,0 +1,139 @@
+package team10;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+
+// 단어장 바이너리 스냅샷 (words.txt 를 매번 파싱하지 않기 위한 캐시).
+//
+//   header : magic "VOCS", version, 원본 텍스트 크기/수정시각
+//   body   : freeze 한 CompactVocStore 의 배열 그대로 (문자열 바이트, id 별 끝 위치, 키 해시, 키 순서, 해시 표)
+//   trailer: 앞의 모든 바이트에 대한 CRC32
+//
+// 열 때는 파일을 한 번에 읽어 배열로 옮길 뿐 단어마다 디코딩하지 않는다. 찾기는 저장된 해시 표로,
+// 순서 조회는 저장된 키 순서로 하고, Word 는 꺼낸 단어만 만든다.
+// 파일을 매핑해 두지 않으므로 읽은 뒤 같은 스냅샷을 rename 으로 덮어써도 된다 (Windows 에서도).
+// 원본 텍스트가 없어졌거나 그 뒤에 바뀌었거나(크기/수정시각) 체크섬이 맞지 않으면 open 은 null 을 돌려준다.
+public class VocSnapshot {
+
+    private static final int MAGIC = 0x564F4353;   // "VOCS"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8;
+
+    private final CompactVocStore store;
+
+    private VocSnapshot(CompactVocStore store) {
+        this.store = store;
+    }
+
+    /* ================== 쓰기 ================== */
+
+    // source: 이 스냅샷이 대신하는 텍스트 파일 (없으면 null). 크기/수정시각을 기록해 둔다
+    public static void write(Path snapshot, Collection<Word> words, Path source) throws IOException {
+        byte[] bytes = encode(words, source);
+        AtomicFiles.write(snapshot, out -> out.write(bytes));
+    }
+
+    public static void write(Path snapshot, CompactVocStore store, Path source) throws IOException {
+        byte[] bytes = encode(store, source);
+        AtomicFiles.write(snapshot, out -> out.write(bytes));
+    }
+
+    // 같은 키는 먼저 나온 것 하나만 남는다
+    static byte[] encode(Collection<Word> words, Path source) throws IOException {
+        CompactVocStore store = new CompactVocStore(words.size());
+        store.addAll(words);
+        store.freeze();
+        return encode(store, source);
+    }
+
+    static byte[] encode(CompactVocStore store, Path source) throws IOException {
+        store.freeze();
+        long total = HEADER_BYTES + store.serializedBytes() + 8;
+        if (total > Integer.MAX_VALUE) throw new IOException("스냅샷이 너무 큽니다: " + total);
+        ByteBuffer out = ByteBuffer.allocate((int) total);
+
+        out.putInt(MAGIC).putInt(VERSION);
+        out.putLong(source != null && Files.exists(source) ? Files.size(source) : -1);
+        out.putLong(source != null && Files.exists(source) ? Files.getLastModifiedTime(source).toMillis() : -1);
+        store.writeTo(out);
+
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), 0, out.position());
+        out.putLong(crc.getValue());
+        return out.array();
+    }
+
+    /* ================== 읽기 ================== */
+
+    // 스냅샷이 없거나, 손상되었거나, source 가 없어졌거나 더 최신이면 null
+    public static VocSnapshot open(Path snapshot, Path source) {
+        if (!Files.exists(snapshot)) return null;
+        try {
+            if (source != null && !Files.exists(source)) return reject(snapshot, "원본 텍스트 없음");
+            long size = Files.size(snapshot);
+            if (size < HEADER_BYTES + 8 || size > Integer.MAX_VALUE) return reject(snapshot, "크기 이상");
+            ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(snapshot));   // 읽고 나면 파일은 닫혀 있다
+            size = buf.capacity();
+
+            if (buf.getInt(0) != MAGIC) return reject(snapshot, "형식이 다름");
+            if (buf.getInt(4) != VERSION) return reject(snapshot, "버전이 다름");
+
+            long srcSize = buf.getLong(8);
+            long srcTime = buf.getLong(16);
+            if (source != null && (Files.size(source) != srcSize
+                    || Files.getLastModifiedTime(source).toMillis() != srcTime)) {
+                return reject(snapshot, "원본 텍스트가 더 최신");
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(buf.array(), 0, (int) size - 8);
+            if (crc.getValue() != buf.getLong((int) size - 8)) return reject(snapshot, "체크섬 불일치");
+
+            buf.position(HEADER_BYTES).limit((int) size - 8);
+            CompactVocStore store = CompactVocStore.readFrom(buf);
+            if (buf.hasRemaining()) return reject(snapshot, "크기 이상");
+            return new VocSnapshot(store);
+        } catch (IOException | RuntimeException e) {
+            return reject(snapshot, e.getMessage());
+        }
+    }
+
+    private static VocSnapshot reject(Path snapshot, String reason) {
+        System.out.println("스냅샷 사용 안 함 (" + snapshot.getFileName() + "): " + reason);
+        return null;
+    }
+
+    public int size() { return store.size(); }
+
+    // 읽은 그대로의 freeze 된 저장소 (공용 기본 단어장이 그대로 쓴다)
+    public CompactVocStore store() { return store; }
+
+    // 저장된 순서(= 원래 단어장 순서)의 id 번째 단어. 매번 새 Word (고쳐도 되는 사본)
+    public Word get(int id) {
+        return new Word(store.eng(id), store.kor(id));
+    }
+
+    // 소문자 키 순서로 rank 번째 단어의 id (미리 정렬해 둔 인덱스)
+    public int sortedId(int rank) {
+        return store.sortedId(rank);
+    }
+
+    // 해시 표로 바로 찾는다 (다른 단어는 만들지 않음)
+    public Word lookup(String eng) {
+        int id = store.id(eng);
+        return id < 0 ? null : get(id);
+    }
+
+    // 전체를 저장된 순서대로 Word 로 만든다 (오답노트처럼 작은 파일용)
+    public List<Word> words() {
+        List<Word> out = new ArrayList<>(store.size());
+        for (int i = 0; i < store.size(); i++) out.add(get(i));
+        return out;
+    }
+}
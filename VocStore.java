@@ -0,0 +1,364 @@
+package team10;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 단어장 저장소: Word.getKey()(소문자 키)로 해시된 맵 + 삽입 순서 뷰.
+// 조회/추가/삭제 모두 O(1), 파일 로드는 O(n).
+//
+// 여러 스레드(불러오기/저장/검색/퀴즈)에서 같이 쓴다.
+//   조회 : ConcurrentHashMap 을 잠금 없이 바로 읽는다
+//   변경 : putIfAbsent / remove 한 번이라 "있는지 보고 추가" 가 원자적. 맵 안에서는 버킷 단위로 잠기므로
+//          서로 다른 단어를 바꾸는 스레드끼리는 기다리지 않는다
+//   순회 : values() 는 삽입 순서로 정렬된 불변 배열(스냅숏)을 돈다. 순회 중에 단어가 바뀌어도
+//          ConcurrentModification 없이 순회를 시작한 시점의 단어장을 본다
+//
+// 스냅숏은 변경이 있은 뒤 처음 순회할 때 다시 만든다. 이전 스냅숏에서 지워진 단어를 빼고
+// 그 뒤에 추가된 것만 뒤에 붙이므로 O(n) 이고, 만드는 동안만 변경을 잠깐 막는다
+// (변경끼리는 gate 의 읽기 잠금을 같이 잡고, 스냅숏은 쓰기 잠금을 잡는다).
+//
+// 층: new VocStore(base) 는 여러 사용자가 같이 쓰는 불변 base 위에 그 사용자의 변경만 얹는다.
+//   words  : 이 층에서 추가한 단어와, 수정하느라 base 단어를 대신하게 된 사본
+//   hidden : 보이지 않게 된 base 단어의 키 (지웠거나 사본으로 바뀜)
+// 조회는 words → hidden → base 순. 순회는 base 순서대로 돌며 바뀐 단어는 그 자리에서 사본을 내고,
+// 그 뒤에 이 층에서 추가한 단어를 붙인다 (base 전체를 복사한 스냅숏은 만들지 않는다).
+// 층의 변경끼리는 hidden 의 잠금으로 한 줄로 세운다.
+//
+// new VocStore(frozen) 은 freeze 한 CompactVocStore 를 그대로 보여 주는 읽기 전용 저장소 (공용 기본 단어장).
+// Word 는 조회할 때마다 새로 만들어지므로 같은 단어인지는 == 이 아니라 키로 비교한다.
+public class VocStore {
+
+    // 같은 키를 지웠다 다시 넣으면 다른 Node 라서 스냅숏에서 구별된다
+    private static final class Node {
+        final Word word;
+        final long seq;   // 추가된 순서
+
+        Node(Word word, long seq) {
+            this.word = word;
+            this.seq = seq;
+        }
+    }
+
+    private static final class Snapshot {
+        final Node[] nodes;
+        final long version;
+
+        Snapshot(Node[] nodes, long version) {
+            this.nodes = nodes;
+            this.version = version;
+        }
+    }
+
+    private static final Node[] EMPTY = new Node[0];
+
+    private final ConcurrentHashMap<String, Node> words;
+    private final ReentrantReadWriteLock gate = new ReentrantReadWriteLock();
+    private final AtomicLong nextSeq = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();   // 변경이 끝날 때마다 +1
+    private final ConcurrentLinkedQueue<Node> addedSinceSnapshot = new ConcurrentLinkedQueue<>();
+    private volatile Snapshot snapshot = new Snapshot(EMPTY, 0);
+    private final Collection<Word> view = new SnapshotView();
+
+    private final VocStore base;   // null 이면 단독 저장소
+    private final CompactVocStore frozen;   // null 이 아니면 읽기 전용
+    private final Set<String> hidden = ConcurrentHashMap.newKeySet();
+
+    public VocStore() {
+        this(16);
+    }
+
+    public VocStore(int expectedSize) {
+        // 재해싱이 일어나지 않도록 미리 잡는다
+        words = new ConcurrentHashMap<>(Math.max(16, expectedSize));
+        base = null;
+        frozen = null;
+    }
+
+    // base 는 이후 바뀌지 않아야 한다
+    public VocStore(VocStore base) {
+        words = new ConcurrentHashMap<>();
+        this.base = base;
+        this.frozen = null;
+    }
+
+    // frozen.freeze() 한 뒤여야 한다. 추가/삭제/바꿔 끼우기는 UnsupportedOperationException
+    public VocStore(CompactVocStore frozen) {
+        if (!frozen.isFrozen()) throw new IllegalArgumentException("freeze 하지 않은 저장소");
+        words = new ConcurrentHashMap<>(1);
+        this.base = null;
+        this.frozen = frozen;
+    }
+
+    // 이미 같은 키가 있으면 추가하지 않고 false
+    public boolean add(Word w) {
+        if (w == null || w.getKey() == null) return false;
+        readOnlyCheck();
+        if (base == null) return addOwn(w);
+        synchronized (hidden) {
+            if (inBase(w.getKey())) return false;
+            return addOwn(w);
+        }
+    }
+
+    private boolean addOwn(Word w) {
+        gate.readLock().lock();
+        try {
+            Node node = new Node(w, nextSeq.getAndIncrement());
+            if (words.putIfAbsent(w.getKey(), node) != null) return false;
+            addedSinceSnapshot.add(node);
+            version.incrementAndGet();
+            return true;
+        } finally {
+            gate.readLock().unlock();
+        }
+    }
+
+    public Word get(String eng) {
+        if (eng == null) return null;
+        if (frozen != null) return frozen.get(eng);
+        String key = Word.keyOf(eng);
+        Node node = words.get(key);
+        if (node != null) return node.word;
+        return base == null || hidden.contains(key) ? null : base.get(key);
+    }
+
+    public Word remove(String eng) {
+        if (eng == null) return null;
+        readOnlyCheck();
+        if (base == null) return removeOwn(eng);
+        synchronized (hidden) {
+            Word w = removeOwn(eng);
+            if (w != null) return w;
+            String key = Word.keyOf(eng);
+            if (!inBase(key)) return null;
+            hidden.add(key);
+            version.incrementAndGet();
+            return base.get(key);
+        }
+    }
+
+    // 같은 키의 단어를 w 로 바꿔 끼운다 (없으면 false). 층에서는 공용 base 단어를 고치지 않고
+    // 사본을 먼저 넣은 뒤 base 쪽을 가리므로, 그 사이에 조회해도 단어가 사라져 보이지 않는다
+    public boolean replace(Word w) {
+        if (w == null || w.getKey() == null) return false;
+        readOnlyCheck();
+        String key = w.getKey();
+        synchronized (hidden) {
+            gate.readLock().lock();
+            try {
+                Node node = new Node(w, nextSeq.getAndIncrement());
+                if (words.replace(key, node) == null) {
+                    if (!inBase(key)) return false;
+                    words.put(key, node);
+                    hidden.add(key);
+                }
+                addedSinceSnapshot.add(node);
+                version.incrementAndGet();
+                return true;
+            } finally {
+                gate.readLock().unlock();
+            }
+        }
+    }
+
+    private Word removeOwn(String eng) {
+        gate.readLock().lock();
+        try {
+            Node node = words.remove(Word.keyOf(eng));
+            if (node == null) return null;
+            version.incrementAndGet();
+            return node.word;
+        } finally {
+            gate.readLock().unlock();
+        }
+    }
+
+    public boolean contains(String eng) {
+        if (frozen != null) return frozen.id(eng) >= 0;   // Word 를 만들지 않고
+        return get(eng) != null;
+    }
+
+    public int size() {
+        if (frozen != null) return frozen.size();
+        return base == null ? words.size() : words.size() + base.size() - hidden.size();
+    }
+
+    public boolean isEmpty() { return size() == 0; }
+
+    public void clear() {
+        readOnlyCheck();
+        synchronized (hidden) {
+            gate.writeLock().lock();
+            try {
+                words.clear();
+                addedSinceSnapshot.clear();
+                if (base != null) {
+                    for (Word w : base.values()) hidden.add(w.getKey());
+                }
+                version.incrementAndGet();
+            } finally {
+                gate.writeLock().unlock();
+            }
+        }
+    }
+
+    private void readOnlyCheck() {
+        if (frozen != null) throw new UnsupportedOperationException("읽기 전용 저장소");
+    }
+
+    /* ================== 층 ================== */
+
+    // 가려지지 않은 base 단어의 키인지
+    private boolean inBase(String key) {
+        return base != null && !hidden.contains(key) && base.contains(key);
+    }
+
+    // 이 층이 들고 있는 단어인지 (이 층에서 추가했거나 base 단어 대신 넣은 사본). 아니면 base 단어이거나 없는 단어
+    public boolean inLayer(String eng) {
+        return eng != null && words.containsKey(Word.keyOf(eng));
+    }
+
+    // 이 층에서 추가하거나 바꿔 끼운 단어 (삽입 순서)
+    public List<Word> changedWords() {
+        List<Word> out = new ArrayList<>();
+        for (Node n : snapshot()) out.add(n.word);
+        return out;
+    }
+
+    // 지워진 base 단어의 키 (사본으로 바뀐 것은 빼고)
+    public List<String> deletedKeys() {
+        List<String> out = new ArrayList<>();
+        for (String key : hidden) {
+            if (!words.containsKey(key)) out.add(key);
+        }
+        return out;
+    }
+
+    // 삽입 순서를 유지하는 읽기 전용 뷰 (기존 getVoc() 호출부용). 순회할 때마다 그 시점의 스냅숏을 돈다
+    public Collection<Word> values() { return view; }
+
+    /* ================== 스냅숏 ================== */
+
+    private Node[] snapshot() {
+        Snapshot s = snapshot;
+        if (s.version == version.get()) return s.nodes;
+        gate.writeLock().lock();
+        try {
+            s = snapshot;
+            long v = version.get();   // 잠금 안에서는 바뀌지 않는다
+            if (s.version == v) return s.nodes;
+
+            List<Node> added = new ArrayList<>();
+            for (Node n; (n = addedSinceSnapshot.poll()) != null; ) added.add(n);
+            added.sort(Comparator.comparingLong(n -> n.seq));   // 스레드끼리 큐에 넣은 순서가 섞였을 수 있음
+
+            Node[] out = new Node[words.size()];
+            int count = 0;
+            for (Node n : s.nodes) {
+                if (words.get(n.word.getKey()) == n) out[count++] = n;
+            }
+            for (Node n : added) {
+                if (words.get(n.word.getKey()) == n) out[count++] = n;
+            }
+            if (count != out.length) out = Arrays.copyOf(out, count);
+            snapshot = new Snapshot(out, v);
+            return out;
+        } finally {
+            gate.writeLock().unlock();
+        }
+    }
+
+    private final class SnapshotView extends AbstractCollection<Word> {
+        @Override
+        public Iterator<Word> iterator() {
+            if (frozen != null) return frozen.words().iterator();
+            if (base != null) return layerIterator();
+            Node[] nodes = snapshot();
+            return new Iterator<Word>() {
+                int i;
+
+                @Override
+                public boolean hasNext() { return i < nodes.length; }
+
+                @Override
+                public Word next() {
+                    if (i >= nodes.length) throw new NoSuchElementException();
+                    return nodes[i++].word;
+                }
+            };
+        }
+
+        @Override
+        public int size() { return VocStore.this.size(); }
+
+        @Override
+        public boolean isEmpty() { return VocStore.this.isEmpty(); }
+
+        // 복사(new ArrayList<>(getVoc()) 등)도 한 스냅숏에서
+        @Override
+        public Object[] toArray() {
+            if (frozen != null) return frozen.words().toArray();
+            if (base != null) {
+                List<Word> out = new ArrayList<>(size());
+                for (Iterator<Word> it = layerIterator(); it.hasNext(); ) out.add(it.next());
+                return out.toArray();
+            }
+            Node[] nodes = snapshot();
+            Object[] out = new Object[nodes.length];
+            for (int i = 0; i < nodes.length; i++) out[i] = nodes[i].word;
+            return out;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Word && get(((Word) o).getEng()) != null;
+        }
+    }
+
+    // base 순서로 돌며 바뀐 단어는 사본을, 지운 단어는 건너뛰고, 끝에 이 층에서 추가한 단어.
+    // base 는 바뀌지 않고 층의 변경은 ConcurrentHashMap 이라 순회 도중 변경이 있어도 안전하다 (약한 일관성)
+    private Iterator<Word> layerIterator() {
+        Iterator<Word> shared = base.values().iterator();
+        Node[] own = snapshot();
+        return new Iterator<Word>() {
+            int j;
+            Word next = advance();
+
+            private Word advance() {
+                while (shared.hasNext()) {
+                    Word w = shared.next();
+                    Node mine = words.get(w.getKey());
+                    if (mine != null) return mine.word;
+                    if (!hidden.contains(w.getKey())) return w;
+                }
+                while (j < own.length) {
+                    Word w = own[j++].word;
+                    if (!base.contains(w.getKey())) return w;   // base 자리에서 이미 낸 사본은 건너뜀
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() { return next != null; }
+
+            @Override
+            public Word next() {
+                if (next == null) throw new NoSuchElementException();
+                Word w = next;
+                next = advance();
+                return w;
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+package team10;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// VocStore 경합 벤치마크: 쓰기 스레드 하나가 계속 추가/삭제하는 동안 읽기 스레드 수를 늘려 가며
+// 초당 조회 수를 잰다. 비교용으로 예전처럼 맵 전체를 한 잠금으로 막는 저장소도 같이 잰다.
+//
+//   java team10.VocStoreBenchmark [단어 수=200000] [초=2] [최대 읽기 스레드=코어 수]
+//
+// 읽기가 잠금 없이 되면 읽기 스레드 수에 비례해 처리량이 늘고, 쓰기 처리량도 크게 줄지 않는다.
+public class VocStoreBenchmark {
+
+    private interface Store {
+        boolean add(Word w);
+        Word get(String eng);
+        Word remove(String eng);
+        int iterate();   // 전체 순회 (getVoc() 호출부 흉내)
+    }
+
+    private static final class Concurrent implements Store {
+        final VocStore store = new VocStore();
+
+        public boolean add(Word w) { return store.add(w); }
+        public Word get(String eng) { return store.get(eng); }
+        public Word remove(String eng) { return store.remove(eng); }
+
+        public int iterate() {
+            int n = 0;
+            for (Word ignored : store.values()) n++;
+            return n;
+        }
+    }
+
+    private static final class Locked implements Store {
+        final Map<String, Word> map = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        public boolean add(Word w) { return map.putIfAbsent(w.getKey(), w) == null; }
+        public Word get(String eng) { return map.get(Word.keyOf(eng)); }
+        public Word remove(String eng) { return map.remove(Word.keyOf(eng)); }
+
+        public int iterate() {
+            synchronized (map) {
+                int n = 0;
+                for (Word ignored : map.values()) n++;
+                return n;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int words = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 2;
+        int maxReaders = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        List<String> keys = new ArrayList<>(words);
+        for (int i = 0; i < words; i++) keys.add("word" + i);
+
+        System.out.printf("단어 %d개, %.1f초씩, 코어 %d개%n", words, seconds, Runtime.getRuntime().availableProcessors());
+        System.out.println("저장소       읽기스레드   조회/초(합)   조회/초(스레드당)   추가삭제/초");
+        List<Integer> readerCounts = new ArrayList<>();
+        for (int r = 1; r < maxReaders; r *= 2) readerCounts.add(r);
+        readerCounts.add(Math.max(1, maxReaders));
+        for (int readers : readerCounts) {
+            for (boolean concurrent : new boolean[]{true, false}) {
+                Store store = concurrent ? new Concurrent() : new Locked();
+                for (String k : keys) store.add(new Word(k, "뜻"));
+                long[] r = run(store, keys, readers, seconds);
+                System.out.printf("%-12s %10d %13d %19d %13d%n", concurrent ? "VocStore" : "잠금 하나",
+                        readers, r[0], r[0] / readers, r[1]);
+            }
+        }
+    }
+
+    // [초당 조회 수, 초당 쓰기 수]. 조회 10만 번에 한 번은 전체 순회
+    private static long[] run(Store store, List<String> keys, int readers, double seconds)
+            throws InterruptedException {
+        AtomicBoolean stop = new AtomicBoolean();
+        LongAdder reads = new LongAdder();
+        LongAdder writes = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < readers; t++) {
+            long seed = t;
+            threads.add(new Thread(() -> {
+                SplittableRandom rand = new SplittableRandom(seed);
+                await(start);
+                long n = 0;
+                while (!stop.get()) {
+                    if (store.get(keys.get(rand.nextInt(keys.size()))) == null) n--;   // 최적화로 지워지지 않도록
+                    if (++n % 100_000 == 0) store.iterate();
+                }
+                reads.add(n);
+            }, "reader-" + t));
+        }
+        threads.add(new Thread(() -> {
+            await(start);
+            long n = 0;
+            while (!stop.get()) {
+                String k = "extra" + (n % 1024);
+                if (store.remove(k) == null) store.add(new Word(k, "뜻"));
+                n++;
+            }
+            writes.add(n);
+        }, "writer"));
+
+        for (Thread t : threads) t.start();
+        start.countDown();
+        Thread.sleep((long) (seconds * 1000));
+        stop.set(true);
+        for (Thread t : threads) t.join();
+        return new long[]{(long) (reads.sum() / seconds), (long) (writes.sum() / seconds)};
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
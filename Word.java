@@ -1,21 +1,40 @@
 package team10;
 
+import java.util.Locale;
+
 public class Word {
     private String eng;
     private String kor;
+    private String key;     // 대소문자 무시 비교용 키 (미리 계산)
     private int wrongCount;
+    AnswerMatcher.Accepted accepted;   // 채점용 정답 후보 캐시 (eng/kor 가 바뀌면 지움)
 
     public Word(String eng, String kor) {
         this.eng = eng;
         this.kor = kor;
+        this.key = keyOf(eng);
         this.wrongCount = 0;
     }
 
+    // 검색/저장소에서 쓰는 정규화 키: 앞뒤 공백 제거 + 소문자
+    public static String keyOf(String eng) {
+        return eng == null ? null : eng.trim().toLowerCase(Locale.ROOT);
+    }
+
     public String getEng() { return eng; }
-    public void setEng(String eng) { this.eng = eng; }
+    public void setEng(String eng) {
+        this.eng = eng;
+        this.key = keyOf(eng);
+        this.accepted = null;
+    }
+
+    public String getKey() { return key; }
 
     public String getKor() { return kor; }
-    public void setKor(String kor) { this.kor = kor; }
+    public void setKor(String kor) {
+        this.kor = kor;
+        this.accepted = null;
+    }
 
     public int getWrongCount() { return wrongCount; }
     public void increaseWrongCount() { wrongCount++; }
@@ -31,11 +50,11 @@ public class Word {
         if (this == o) return true;
         if (!(o instanceof Word)) return false;
         Word other = (Word) o;
-        return eng != null && eng.equalsIgnoreCase(other.eng);
+        return key != null && key.equals(other.key);
     }
 
     @Override
     public int hashCode() {
-        return eng == null ? 0 : eng.toLowerCase().hashCode();
+        return key == null ? 0 : key.hashCode();
     }
 }
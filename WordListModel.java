@@ -0,0 +1,180 @@
+package team10;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+
+// 단어장을 보여주는 JList 모델.
+// 목록을 복사하지 않고 정렬 인덱스(SortedWordIndex)에서 순위로 바로 읽는다 (보이는 줄만 Word 로 만들어짐).
+// 단어장은 서버/백그라운드 스레드에서도 바뀌므로, JList 가 아직 이벤트로 받지 못한 변경만 pending 에
+// (변경 직후의 위치와 함께) 쌓아 두고, 읽을 때는 인덱스에서 그 변경들을 되돌린 위치로 읽는다.
+// EDT 는 pending 을 앞에서부터 하나씩 꺼내며 그 위치 하나에 대한 이벤트를 내므로,
+// JList 가 보는 크기/순서는 언제나 지금까지 받은 이벤트와 맞는다.
+// pending 과 인덱스는 VocManager 의 쓰기 잠금 안에서 같이 바뀌므로 (VocListener 는 그 안에서 불린다)
+// 읽을 때도 readConsistent 로 같은 잠금 안에서 읽는다. pending 은 보통 비어 있거나 몇 개뿐이다.
+// 검색 중에는 결과 리스트를 그대로 보여준다.
+public class WordListModel extends AbstractListModel<Word> implements VocListener {
+
+    private enum Kind { ADDED, REMOVED, CHANGED }
+
+    // 변경 하나와 그 직후의 정렬 위치 (지운 경우는 지우기 전 위치)
+    private static final class Change {
+        final Kind kind;
+        final int pos;
+        final Word word;
+
+        Change(Kind kind, int pos, Word word) {
+            this.kind = kind;
+            this.pos = pos;
+            this.word = word;
+        }
+    }
+
+    private final VocManager manager;
+    private final SortedWordIndex sorted;
+    private List<Word> filter;   // null 이면 전체 목록 (EDT 전용)
+    private final List<Change> pending = new ArrayList<>();   // 쓰기 잠금 안에서만
+
+    public WordListModel(VocManager manager) {
+        this.manager = manager;
+        this.sorted = manager.getSortedVoc();
+        manager.addVocListener(this);
+    }
+
+    @Override
+    public int getSize() {
+        if (filter != null) return filter.size();
+        return manager.readConsistent(() -> {
+            int size = sorted.size();
+            for (Change c : pending) {
+                if (c.kind == Kind.ADDED) size--;
+                else if (c.kind == Kind.REMOVED) size++;
+            }
+            return size;
+        });
+    }
+
+    @Override
+    public Word getElementAt(int index) {
+        if (filter != null) return filter.get(index);
+        return manager.readConsistent(() -> {
+            // JList 가 보는 위치 → 오래된 변경부터 적용해 지금 인덱스의 위치로
+            int at = index;
+            for (Change c : pending) {
+                if (c.kind == Kind.ADDED) {
+                    if (at >= c.pos) at++;
+                } else if (c.kind == Kind.REMOVED) {
+                    if (at == c.pos) return c.word;   // 인덱스에서는 이미 지워진 단어
+                    if (at > c.pos) at--;
+                }
+            }
+            return sorted.get(at);
+        });
+    }
+
+    // JList 가 보는 위치, 없으면 -1
+    public int indexOf(Word w) {
+        if (filter != null) return filter.indexOf(w);
+        return manager.readConsistent(() -> {
+            int at = sorted.indexOf(w);
+            // 지금 인덱스의 위치 → 최근 변경부터 되돌려 JList 가 보는 위치로 (-1 = 그 시점에 없음)
+            for (int i = pending.size() - 1; i >= 0; i--) {
+                Change c = pending.get(i);
+                if (c.kind == Kind.ADDED) {
+                    if (at == c.pos) at = -1;   // 아직 이벤트를 받지 못한 단어
+                    else if (at > c.pos) at--;
+                } else if (c.kind == Kind.REMOVED) {
+                    if (c.word.equals(w)) at = c.pos;   // 지웠다는 이벤트를 아직 받지 못한 단어
+                    else if (at >= c.pos) at++;
+                }
+            }
+            return at;
+        });
+    }
+
+    public boolean isFiltered() { return filter != null; }
+
+    // 검색 결과로 목록 교체 (결과 리스트는 복사만 하고 정렬/변환하지 않는다)
+    public void setFilter(List<Word> results) {
+        swap(new ArrayList<>(results));
+    }
+
+    public void clearFilter() {
+        if (filter != null) swap(null);
+    }
+
+    private void swap(List<Word> newFilter) {
+        int oldSize = getSize();
+        filter = newFilter;
+        if (oldSize > 0) fireIntervalRemoved(this, 0, oldSize - 1);
+        int newSize = getSize();
+        if (newSize > 0) fireIntervalAdded(this, 0, newSize - 1);
+    }
+
+    /* ================== VocListener ================== */
+    // 단어장을 바꾼 스레드에서 쓰기 잠금 안에서 불린다: 위치만 계산해 쌓고, 이벤트는 EDT 에서 낸다
+
+    @Override
+    public void wordAdded(Word w) {
+        post(new Change(Kind.ADDED, sorted.indexOf(w), w));
+    }
+
+    @Override
+    public void wordRemoved(Word w) {
+        // 지워진 키의 rank = 지워지기 전 위치
+        post(new Change(Kind.REMOVED, sorted.rank(w.getKey()), w));
+    }
+
+    @Override
+    public void wordChanged(Word w) {
+        post(new Change(Kind.CHANGED, sorted.indexOf(w), w));
+    }
+
+    private void post(Change c) {
+        if (c.pos < 0) return;
+        pending.add(c);
+        // EDT 에서 바꿨더라도 앞서 쌓인 것부터 내야 위치가 맞는다
+        if (SwingUtilities.isEventDispatchThread()) drain();
+        else SwingUtilities.invokeLater(this::drain);
+    }
+
+    // 하나씩 꺼내서 이벤트를 낸다. 이벤트를 받은 JList 가 다시 읽을 때는 꺼낸 변경까지 반영된 목록이 보인다
+    private void drain() {
+        Change c;
+        while ((c = manager.readConsistent(() -> pending.isEmpty() ? null : pending.remove(0))) != null) {
+            fire(c);
+        }
+    }
+
+    private void fire(Change c) {
+        switch (c.kind) {
+            case ADDED:
+                // 검색 중에는 새 단어를 결과에 끼워 넣지 않는다 (다음 검색 때 반영)
+                if (filter == null) fireIntervalAdded(this, c.pos, c.pos);
+                break;
+            case REMOVED:
+                if (filter == null) {
+                    fireIntervalRemoved(this, c.pos, c.pos);
+                } else {
+                    int i = filter.indexOf(c.word);
+                    if (i >= 0) {
+                        filter.remove(i);
+                        fireIntervalRemoved(this, i, i);
+                    }
+                }
+                break;
+            case CHANGED:
+                if (filter == null) {
+                    fireContentsChanged(this, c.pos, c.pos);
+                } else {
+                    // 공용 단어는 수정하면 사본으로 바뀌므로 결과 속 옛 객체를 바꿔 끼운다
+                    int i = filter.indexOf(c.word);
+                    if (i >= 0) {
+                        filter.set(i, c.word);
+                        fireContentsChanged(this, i, i);
+                    }
+                }
+                break;
+        }
+    }
+}
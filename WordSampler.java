@@ -0,0 +1,134 @@
+package team10;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+// 퀴즈 문제 뽑기. 전체를 복사해서 섞지 않고 k 개만 뽑는다.
+//
+//   sample    : 번호로 꺼낼 수 있는 원본(List, SortedWordIndex)에서 부분 Fisher-Yates.
+//               바꾼 자리만 HashMap 에 기억하므로 시간/메모리 O(k) (조건이 있으면 걸러진 만큼 더)
+//   reservoir : 순회만 되는 원본에서 k 개 (Algorithm L - 건너뛸 개수를 한 번에 뽑아 난수 O(k log(n/k)))
+//   weighted  : 가중치 비례 비복원 추출 (Efraimidis-Spirakis, 크기 k 힙) - 메모리 O(k)
+//
+// filter 는 null 이면 전부. 걸러 낸 사본을 따로 만들지 않는다.
+public final class WordSampler {
+
+    private WordSampler() {
+    }
+
+    /* ================== 부분 Fisher-Yates ================== */
+
+    public static <T> List<T> sample(List<T> list, int k, Predicate<? super T> filter, Random rand) {
+        return sample(list.size(), list::get, k, filter, rand);
+    }
+
+    public static List<Word> sample(SortedWordIndex index, int k, Predicate<? super Word> filter, Random rand) {
+        return sample(index.size(), index::get, k, filter, rand);
+    }
+
+    // 0..size-1 을 가상의 배열로 보고 앞에서부터 i 번째 자리에 남은 것 중 하나를 골라 바꾼다
+    public static <T> List<T> sample(int size, IntFunction<T> get, int k, Predicate<? super T> filter, Random rand) {
+        List<T> out = new ArrayList<>(Math.min(k, size));
+        HashMap<Integer, Integer> swapped = new HashMap<>();
+        for (int i = 0; i < size && out.size() < k; i++) {
+            int j = i + rand.nextInt(size - i);
+            int picked = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+            swapped.remove(i);   // i 자리는 다시 보지 않는다
+            T item = get.apply(picked);
+            if (filter == null || filter.test(item)) out.add(item);
+        }
+        return out;
+    }
+
+    /* ================== 저수지 표본 ================== */
+
+    public static <T> List<T> reservoir(Iterable<T> source, int k, Predicate<? super T> filter, Random rand) {
+        List<T> out = new ArrayList<>(k);
+        if (k <= 0) return out;
+        Iterator<T> it = source.iterator();
+        while (out.size() < k && it.hasNext()) {
+            T item = it.next();
+            if (filter == null || filter.test(item)) out.add(item);
+        }
+        if (out.size() < k) return out;
+
+        double w = Math.exp(Math.log(nextOpen(rand)) / k);
+        while (true) {
+            // 다음으로 저수지에 들어갈 항목까지 건너뛸 개수
+            long skip = (long) Math.floor(Math.log(nextOpen(rand)) / Math.log(1 - w));
+            T item = null;
+            boolean found = false;
+            while (it.hasNext()) {
+                T next = it.next();
+                if (filter != null && !filter.test(next)) continue;
+                if (skip-- == 0) {
+                    item = next;
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) return out;
+            out.set(rand.nextInt(k), item);
+            w *= Math.exp(Math.log(nextOpen(rand)) / k);
+        }
+    }
+
+    /* ================== 가중치 표본 ================== */
+
+    // weight 가 클수록 잘 뽑힌다 (0 이하는 뽑지 않음). 결과는 키가 큰 순서 (대략 무거운 것 먼저)
+    public static <T> List<T> weighted(Iterable<T> source, int k, ToDoubleFunction<? super T> weight,
+                                       Predicate<? super T> filter, Random rand) {
+        List<T> out = new ArrayList<>(k);
+        if (k <= 0) return out;
+        // 키 = ln(u) / w (u^(1/w) 의 로그). 키가 큰 k 개가 표본, 힙 맨 위는 그중 가장 작은 것
+        PriorityQueue<Keyed<T>> heap = new PriorityQueue<>(k + 1);
+        for (T item : source) {
+            if (filter != null && !filter.test(item)) continue;
+            double w = weight.applyAsDouble(item);
+            if (!(w > 0)) continue;
+            double key = Math.log(nextOpen(rand)) / w;
+            if (heap.size() < k) {
+                heap.add(new Keyed<>(item, key));
+            } else if (key > heap.peek().key) {
+                heap.poll();
+                heap.add(new Keyed<>(item, key));
+            }
+        }
+        while (!heap.isEmpty()) out.add(heap.poll().item);
+        Collections.reverse(out);
+        return out;
+    }
+
+    private static final class Keyed<T> implements Comparable<Keyed<T>> {
+        final T item;
+        final double key;
+
+        Keyed(T item, double key) {
+            this.item = item;
+            this.key = key;
+        }
+
+        @Override
+        public int compareTo(Keyed<T> o) {
+            return Double.compare(key, o.key);
+        }
+    }
+
+    // (0, 1) 구간 난수 (log(0) 방지)
+    private static double nextOpen(Random rand) {
+        double u;
+        do {
+            u = rand.nextDouble();
+        } while (u == 0);
+        return u;
+    }
+}
@@ -0,0 +1,370 @@
+package team10;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+// Wordle 기록 파일(<user>_wordle_log.txt) 저장소.
+//
+//   SUCCESS<TAB>WORD<TAB>3 tries<TAB>뜻<TAB>2026-10-18T21:04:11
+//
+// 기록은 AsyncLogWriter 로 백그라운드에서 모아 쓰므로 게임이 끝날 때 EDT 가 파일을 열고 닫지 않는다.
+// 파일을 처음 조회할 때 한 번 훑어서 기록마다 시작 오프셋, 성공 여부, 단어 번호만 메모리에 두고
+// 통계(승률, 시도 수 분포, 연승)도 그때 같이 계산한다. 이후 append 할 때마다 이어서 갱신.
+// 화면에는 최신 기록부터 페이지 단위로, 필요한 줄만 오프셋으로 읽어서 보여 준다.
+// 예전 형식(시각 없음) 줄도 그대로 읽는다.
+public class WordleArchive {
+
+    public static final class Record {
+        public final boolean success;
+        public final String word;
+        public final int tries;
+        public final String kor;
+        public final LocalDateTime time;   // 예전 기록은 null
+
+        public Record(boolean success, String word, int tries, String kor, LocalDateTime time) {
+            this.success = success;
+            this.word = word;
+            this.tries = tries;
+            this.kor = kor;
+            this.time = time;
+        }
+
+        // 한 줄 파싱, 형식이 아니면 null
+        static Record parse(String line) {
+            String[] f = line.split("\t");
+            if (f.length < 3 || !(f[0].equals("SUCCESS") || f[0].equals("FAIL"))) return null;
+            int tries;
+            try {
+                tries = Integer.parseInt(f[2].replace("tries", "").trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            LocalDateTime time = null;
+            if (f.length >= 5) {
+                try {
+                    time = LocalDateTime.parse(f[4].trim());
+                } catch (DateTimeParseException e) {
+                    // 시각 없이
+                }
+            }
+            return new Record(f[0].equals("SUCCESS"), f[1], tries, f.length >= 4 ? f[3] : "", time);
+        }
+
+        String format() {
+            return (success ? "SUCCESS" : "FAIL") + "\t" + word + "\t" + tries + " tries\t" + kor
+                    + (time != null ? "\t" + time.withNano(0) : "");
+        }
+    }
+
+    // 조회 조건: outcome 은 null(전체) / true(성공) / false(실패), word 는 null 이면 전체
+    public static final class Filter {
+        public static final Filter ALL = new Filter(null, null);
+
+        final Boolean outcome;
+        final String word;
+
+        public Filter(Boolean outcome, String word) {
+            this.outcome = outcome;
+            this.word = word == null || word.trim().isEmpty() ? null : word.trim().toUpperCase(Locale.ROOT);
+        }
+    }
+
+    public static final class Stats {
+        public int games;
+        public int wins;
+        public final int[] triesHistogram = new int[7];   // [k] = k 번 만에 맞힌 게임 수 (7 이상은 6 에)
+        public int currentStreak;
+        public int maxStreak;
+
+        public double winRate() { return games == 0 ? 0 : wins / (double) games; }
+
+        void add(boolean success, int tries) {
+            games++;
+            if (success) {
+                wins++;
+                triesHistogram[Math.max(1, Math.min(6, tries))]++;
+                currentStreak++;
+                maxStreak = Math.max(maxStreak, currentStreak);
+            } else {
+                currentStreak = 0;
+            }
+        }
+
+        Stats copy() {
+            Stats s = new Stats();
+            s.games = games;
+            s.wins = wins;
+            System.arraycopy(triesHistogram, 0, s.triesHistogram, 0, triesHistogram.length);
+            s.currentStreak = currentStreak;
+            s.maxStreak = maxStreak;
+            return s;
+        }
+    }
+
+    private final Path file;
+    private final AsyncLogWriter writer;
+    private boolean sized;         // size/tornTail 을 알고 있음 (색인 전이라도)
+    private boolean indexed;
+    // 기록 i 의 시작 오프셋은 offsets[i], 끝은 offsets[i + 1] (마지막은 end)
+    private long[] offsets = new long[64];
+    private int[] wordIds = new int[64];
+    private final BitSet successes = new BitSet();
+    private final HashMap<String, Integer> wordIdOf = new HashMap<>();
+    private int count;
+    private long end;              // 마지막 완전한 줄의 끝
+    private long size;             // 아직 기록 대기 중인 것까지 포함한 파일 크기
+    private boolean tornTail;      // 파일 끝이 '\n' 없이 끊겨 있음
+    private Stats stats = new Stats();
+    private long seenFailures;     // 마지막으로 맞춘 시점의 writer.getFailedBatches()
+
+    public WordleArchive(Path file) {
+        this.file = file;
+        this.writer = new AsyncLogWriter(file, 1024, "wordle-log");
+    }
+
+    /* ================== 기록 ================== */
+
+    // 큐에 넣기만 한다. 아직 색인 전이면 나중에 색인할 때 파일에서 같이 읽힌다
+    public synchronized void append(Record r) throws IOException {
+        resyncIfFailed();
+        ensureSized();
+        long offset = size + (tornTail ? 1 : 0);
+        byte[] bytes = ((tornTail ? "\n" : "") + r.format() + "\n").getBytes(StandardCharsets.UTF_8);
+        writer.append(bytes);
+        size += bytes.length;
+        tornTail = false;
+        if (indexed) {
+            end = size;
+            add(offset, r);
+        }
+    }
+
+    // 대기 중인 기록을 모두 쓰고 기록기를 닫는다 (종료 훅에서도 불림)
+    public void close() {
+        writer.close();
+    }
+
+    // 큐 길이, flush 시간 등
+    public AsyncLogWriter getWriter() { return writer; }
+
+    /* ================== 조회 ================== */
+
+    public synchronized int size() throws IOException {
+        resyncIfFailed();
+        ensureIndexed();
+        return count;
+    }
+
+    public synchronized Stats getStats() throws IOException {
+        resyncIfFailed();
+        ensureIndexed();
+        return stats.copy();
+    }
+
+    public synchronized int count(Filter filter) throws IOException {
+        resyncIfFailed();
+        ensureIndexed();
+        if (filter.outcome == null && filter.word == null) return count;
+        int wordId = wordIdFor(filter);
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (matches(i, filter, wordId)) n++;
+        }
+        return n;
+    }
+
+    // 최신 기록부터 page 번째 페이지 (0 = 가장 최근). 파일에서는 해당 줄만 읽는다
+    public synchronized List<Record> page(Filter filter, int page, int pageSize) throws IOException {
+        flushWriter();   // 아래에서 파일을 읽으므로 먼저 다 쓰고, 그 사이 실패가 있었으면 다시 색인
+        resyncIfFailed();
+        ensureIndexed();
+        List<Record> out = new ArrayList<>(pageSize);
+        int wordId = wordIdFor(filter);
+        if (filter.word != null && wordId < 0) return out;
+
+        int skip = page * pageSize;
+        List<Integer> picked = new ArrayList<>(pageSize);
+        for (int i = count - 1; i >= 0 && picked.size() < pageSize; i--) {
+            if (!matches(i, filter, wordId)) continue;
+            if (skip > 0) skip--;
+            else picked.add(i);
+        }
+        if (picked.isEmpty()) return out;
+
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int i : picked) {
+                long from = offsets[i];
+                long to = i + 1 < count ? offsets[i + 1] : end;
+                ByteBuffer buf = ByteBuffer.allocate((int) (to - from));
+                while (buf.hasRemaining() && ch.read(buf, from + buf.position()) > 0) {
+                    // 끝까지 읽기
+                }
+                // 사이에 형식이 아닌 줄이 끼어 있을 수 있으니 첫 줄만
+                String text = new String(buf.array(), 0, buf.position(), StandardCharsets.UTF_8);
+                int eol = text.indexOf('\n');
+                Record r = Record.parse((eol < 0 ? text : text.substring(0, eol)).trim());
+                if (r != null) out.add(r);
+            }
+        }
+        return out;
+    }
+
+    private boolean matches(int i, Filter filter, int wordId) {
+        if (filter.outcome != null && successes.get(i) != filter.outcome) return false;
+        return filter.word == null || wordIds[i] == wordId;
+    }
+
+    private int wordIdFor(Filter filter) {
+        if (filter.word == null) return -1;
+        Integer id = wordIdOf.get(filter.word);
+        return id == null ? -1 : id;
+    }
+
+    /* ================== 색인 ================== */
+
+    // 파일을 한 번 순서대로 읽으며 줄 시작 오프셋과 통계를 만든다 (줄 전체를 메모리에 쌓지 않음)
+    private void ensureIndexed() throws IOException {
+        if (indexed) return;
+        flushWriter();   // 색인 전에 append 한 것도 파일에서 읽도록
+        indexed = true;
+        sized = true;
+        if (!Files.exists(file)) return;
+
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocate(1 << 16);
+            byte[] line = new byte[256];
+            int lineLen = 0;
+            long lineStart = 0;
+            long pos = 0;
+            while (ch.read(buf) > 0) {
+                buf.flip();
+                while (buf.hasRemaining()) {
+                    byte b = buf.get();
+                    pos++;
+                    if (b != '\n') {
+                        if (lineLen == line.length) line = Arrays.copyOf(line, lineLen * 2);
+                        line[lineLen++] = b;
+                        continue;
+                    }
+                    indexLine(line, lineLen, lineStart);
+                    lineLen = 0;
+                    lineStart = pos;
+                }
+                buf.clear();
+            }
+            end = lineStart;
+            size = pos;
+            tornTail = lineLen > 0;
+        }
+    }
+
+    // 색인 없이 파일 크기와 마지막 줄이 끊겼는지만 확인
+    private void ensureSized() throws IOException {
+        if (sized) return;
+        sized = true;
+        if (!Files.exists(file)) return;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = ch.size();
+            if (size > 0) {
+                ByteBuffer last = ByteBuffer.allocate(1);
+                ch.read(last, size - 1);
+                tornTail = last.get(0) != '\n';
+            }
+        }
+    }
+
+    // 기록기가 배치를 잃었으면 append 때 미리 더해 둔 크기/오프셋이 파일과 어긋난다.
+    // 대기 중인 것을 다 쓴 뒤 메모리 색인을 버리고, 다음 조회 때 파일에서 다시 읽는다
+    private void resyncIfFailed() throws IOException {
+        if (writer.getFailedBatches() == seenFailures) return;
+        flushWriter();
+        seenFailures = writer.getFailedBatches();
+        sized = false;
+        indexed = false;
+        count = 0;
+        end = 0;
+        size = 0;
+        tornTail = false;
+        successes.clear();
+        wordIdOf.clear();
+        stats = new Stats();
+    }
+
+    private void flushWriter() throws IOException {
+        try {
+            writer.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Wordle 로그 기록 대기 중단");
+        }
+    }
+
+    // 색인에 필요한 결과/단어/시도 수만 바이트에서 바로 꺼낸다 (뜻/시각은 화면에 보일 때 Record.parse)
+    private void indexLine(byte[] line, int len, long offset) {
+        int from = 0;
+        while (from < len && (line[from] & 0xFF) <= ' ') from++;
+        boolean success;
+        if (startsWith(line, from, len, "SUCCESS\t")) success = true;
+        else if (startsWith(line, from, len, "FAIL\t")) success = false;
+        else return;
+        int wordStart = from + (success ? 8 : 5);
+        int wordEnd = wordStart;
+        while (wordEnd < len && line[wordEnd] != '\t') wordEnd++;
+        int tries = 0;
+        boolean digits = false;
+        for (int i = wordEnd + 1; i < len && line[i] != '\t'; i++) {
+            if (line[i] >= '0' && line[i] <= '9') {
+                tries = tries * 10 + (line[i] - '0');
+                digits = true;
+            } else if (digits) {
+                break;
+            }
+        }
+        if (wordEnd >= len || !digits) return;
+        add(offset, success, new String(line, wordStart, wordEnd - wordStart, StandardCharsets.UTF_8), tries);
+    }
+
+    private static boolean startsWith(byte[] line, int from, int len, String prefix) {
+        if (len - from < prefix.length()) return false;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (line[from + i] != prefix.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private void add(long offset, Record r) {
+        add(offset, r.success, r.word, r.tries);
+    }
+
+    private void add(long offset, boolean success, String rawWord, int tries) {
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+            wordIds = Arrays.copyOf(wordIds, count * 2);
+        }
+        String word = rawWord.toUpperCase(Locale.ROOT);
+        Integer id = wordIdOf.get(word);
+        if (id == null) {
+            id = wordIdOf.size();
+            wordIdOf.put(word, id);
+        }
+        offsets[count] = offset;
+        wordIds[count] = id;
+        successes.set(count, success);
+        count++;
+        stats.add(success, tries);
+    }
+}
@@ -0,0 +1,150 @@
+package team10;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+// Wordle 기록 창: 최신 기록부터 PAGE_SIZE 개씩, 성공/실패와 단어로 거를 수 있다.
+// 파일 읽기(첫 색인 포함)는 SwingWorker 에서.
+public class WordleArchiveDialog extends JDialog {
+
+    private static final int PAGE_SIZE = 20;
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final WordleArchive archive;
+    private final RecordTableModel tableModel = new RecordTableModel();
+    private final JLabel statsLabel = new JLabel(" ");
+    private final JLabel pageLabel = new JLabel(" ", SwingConstants.CENTER);
+    private final JComboBox<String> outcomeBox = new JComboBox<>(new String[]{"전체", "SUCCESS", "FAIL"});
+    private final JTextField wordField = new JTextField(10);
+    private final JButton newerBtn = new JButton("◀ 최근");
+    private final JButton olderBtn = new JButton("이전 ▶");
+
+    private WordleArchive.Filter filter = WordleArchive.Filter.ALL;
+    private int page;
+    private int pages;
+
+    public WordleArchiveDialog(Frame owner, VocManager manager) {
+        super(owner, "Wordle Archive - " + manager.getUserName(), true);
+        this.archive = manager.getWordleArchive();
+
+        JPanel top = new JPanel(new BorderLayout());
+        statsLabel.setBorder(BorderFactory.createEmptyBorder(4, 6, 4, 6));
+        top.add(statsLabel, BorderLayout.NORTH);
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        filterPanel.add(outcomeBox);
+        filterPanel.add(new JLabel("단어:"));
+        filterPanel.add(wordField);
+        JButton applyBtn = new JButton("적용");
+        filterPanel.add(applyBtn);
+        top.add(filterPanel, BorderLayout.SOUTH);
+        add(top, BorderLayout.NORTH);
+
+        JTable table = new JTable(tableModel);
+        table.setFillsViewportHeight(true);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        JPanel bottom = new JPanel(new BorderLayout());
+        bottom.add(newerBtn, BorderLayout.WEST);
+        bottom.add(pageLabel, BorderLayout.CENTER);
+        bottom.add(olderBtn, BorderLayout.EAST);
+        add(bottom, BorderLayout.SOUTH);
+
+        applyBtn.addActionListener(e -> applyFilter());
+        wordField.addActionListener(e -> applyFilter());
+        outcomeBox.addActionListener(e -> applyFilter());
+        newerBtn.addActionListener(e -> load(page - 1));
+        olderBtn.addActionListener(e -> load(page + 1));
+
+        setSize(560, 460);
+        setLocationRelativeTo(owner);
+        load(0);
+    }
+
+    private void applyFilter() {
+        int sel = outcomeBox.getSelectedIndex();
+        Boolean outcome = sel == 1 ? Boolean.TRUE : sel == 2 ? Boolean.FALSE : null;
+        filter = new WordleArchive.Filter(outcome, wordField.getText());
+        load(0);
+    }
+
+    private void load(int requested) {
+        WordleArchive.Filter f = filter;
+        newerBtn.setEnabled(false);
+        olderBtn.setEnabled(false);
+        new SwingWorker<Object[], Void>() {
+            @Override
+            protected Object[] doInBackground() throws Exception {
+                int total = archive.count(f);
+                int pageCount = Math.max(1, (total + PAGE_SIZE - 1) / PAGE_SIZE);
+                int p = Math.max(0, Math.min(requested, pageCount - 1));
+                return new Object[]{archive.getStats(), total, pageCount, p, archive.page(f, p, PAGE_SIZE)};
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected void done() {
+                try {
+                    Object[] r = get();
+                    showStats((WordleArchive.Stats) r[0]);
+                    statsLabel.setToolTipText(archive.getWriter().toString());
+                    pages = (Integer) r[2];
+                    page = (Integer) r[3];
+                    tableModel.setRecords((List<WordleArchive.Record>) r[4]);
+                    pageLabel.setText((page + 1) + " / " + pages + "  (" + r[1] + "건)");
+                } catch (Exception ex) {
+                    pageLabel.setText("Wordle 로그를 읽는 중 오류가 발생했습니다: " + ex.getMessage());
+                }
+                newerBtn.setEnabled(page > 0);
+                olderBtn.setEnabled(page < pages - 1);
+            }
+        }.execute();
+    }
+
+    private void showStats(WordleArchive.Stats s) {
+        if (s.games == 0) {
+            statsLabel.setText("아직 Wordle 기록이 없습니다.");
+            return;
+        }
+        StringBuilder dist = new StringBuilder();
+        for (int k = 1; k < s.triesHistogram.length; k++) {
+            dist.append(k).append(':').append(s.triesHistogram[k]).append(' ');
+        }
+        statsLabel.setText(String.format("게임 %d, 승률 %.1f%%, 현재 연승 %d, 최고 연승 %d   |   %s",
+                s.games, 100 * s.winRate(), s.currentStreak, s.maxStreak, dist.toString().trim()));
+    }
+
+    private static class RecordTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"시각", "결과", "단어", "시도", "뜻"};
+        private List<WordleArchive.Record> records = new ArrayList<>();
+
+        void setRecords(List<WordleArchive.Record> records) {
+            this.records = records;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() { return records.size(); }
+
+        @Override
+        public int getColumnCount() { return COLUMNS.length; }
+
+        @Override
+        public String getColumnName(int column) { return COLUMNS[column]; }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            WordleArchive.Record r = records.get(row);
+            switch (column) {
+                case 0: return r.time == null ? "-" : TIME.format(r.time);
+                case 1: return r.success ? "SUCCESS" : "FAIL";
+                case 2: return r.word;
+                case 3: return r.tries;
+                default: return r.kor;
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package team10;
+
+// Wordle 채점 엔진. 결과는 위치 i 를 3진수 i 번째 자리로 갖는 int 하나
+// (HIT = 2 ⭐ 위치까지 정확, PRESENT = 1 ⟳ 글자만 맞음, MISS = 0 x 없는 글자).
+//
+// 정답/추측 모두 MAX_LENGTH 글자 이하라서 맞은 위치/노란 위치를 int 비트로만 들고
+// 글자 수는 그때그때 세어 본다 - 호출마다 객체나 배열을 만들지 않는다.
+// 같은 글자가 여러 번 나오면 기존 규칙대로: 초록을 먼저 빼고, 남은 개수만큼 왼쪽부터 노랑.
+public final class WordleFeedback {
+
+    public static final int MISS = 0;
+    public static final int PRESENT = 1;
+    public static final int HIT = 2;
+
+    public static final int MAX_LENGTH = 19;   // 3^19 < 2^31
+
+    private static final int[] POW3 = new int[MAX_LENGTH + 1];
+    static {
+        POW3[0] = 1;
+        for (int i = 1; i <= MAX_LENGTH; i++) POW3[i] = POW3[i - 1] * 3;
+    }
+
+    private WordleFeedback() {
+    }
+
+    // target, guess 는 같은 길이 (대소문자는 호출하는 쪽에서 맞춘다)
+    public static int score(CharSequence target, CharSequence guess) {
+        int n = target.length();
+        if (n != guess.length() || n > MAX_LENGTH) {
+            throw new IllegalArgumentException("길이가 맞지 않습니다: " + target + " / " + guess);
+        }
+
+        int code = 0;
+        int hits = 0;
+        for (int i = 0; i < n; i++) {
+            if (target.charAt(i) == guess.charAt(i)) {
+                hits |= 1 << i;
+                code += HIT * POW3[i];
+            }
+        }
+        if (hits == (1 << n) - 1) return code;
+
+        int present = 0;
+        for (int i = 0; i < n; i++) {
+            if ((hits & (1 << i)) != 0) continue;
+            char g = guess.charAt(i);
+            // 초록으로 쓰이지 않은 정답 글자 중 g 의 개수
+            int left = 0;
+            for (int j = 0; j < n; j++) {
+                if ((hits & (1 << j)) == 0 && target.charAt(j) == g) left++;
+            }
+            if (left == 0) continue;
+            // 앞에서 이미 노랑으로 쓴 g 의 개수
+            for (int j = 0; j < i && left > 0; j++) {
+                if ((present & (1 << j)) != 0 && guess.charAt(j) == g) left--;
+            }
+            if (left > 0) {
+                present |= 1 << i;
+                code += PRESENT * POW3[i];
+            }
+        }
+        return code;
+    }
+
+    // 위치 pos 의 결과 (HIT / PRESENT / MISS)
+    public static int digit(int code, int pos) {
+        return code / POW3[pos] % 3;
+    }
+
+    // 모두 맞혔을 때의 값
+    public static int solved(int length) {
+        return POW3[length] - 1;
+    }
+
+    // 길이 length 에서 나올 수 있는 결과의 수 (0 .. count-1)
+    public static int count(int length) {
+        return POW3[length];
+    }
+
+    // 화면 표시용 "⭐⟳x" 문자열
+    public static String render(int code, int length) {
+        char[] out = new char[length];
+        for (int i = 0; i < length; i++) {
+            int d = code % 3;
+            out[i] = d == HIT ? '⭐' : d == PRESENT ? '⟳' : 'x';
+            code /= 3;
+        }
+        return new String(out);
+    }
+}
@@ -3,32 +3,47 @@ package team10;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
 
 public class WordleFrame extends JFrame {
 
     private final VocManager manager;
     private String targetWord;
     private String targetKor;
+    private final int length;
     private final int MAX_ATTEMPTS = 6;
     private int attempt = 0;
+    // 힌트 계산용: 지금까지 낸 추측과 그 피드백 코드
+    private final List<String> guesses = new ArrayList<>();
+    private final List<Integer> feedbacks = new ArrayList<>();
+    private JButton hintBtn;
 
     private JTextArea historyArea;
     private JTextField guessField;
     private JLabel infoLabel;
 
     public WordleFrame(Frame owner, VocManager manager) {
-        super("Wordle Game - 5글자 영단어 맞추기");
+        this(owner, manager, 5);
+    }
+
+    // length: WordlePool.MIN_LENGTH ~ MAX_LENGTH 글자
+    public WordleFrame(Frame owner, VocManager manager, int length) {
+        super("Wordle Game - " + length + "글자 영단어 맞추기");
         this.manager = manager;
+        this.length = length;
 
-        Word target = manager.chooseWordleTarget();
+        Word target = manager.chooseWordleTarget(length);
         if (target == null) {
             JOptionPane.showMessageDialog(owner,
-                    "Wordle을 위해 5글자 영단어가 필요합니다.\n" +
-                            "예: apple, major 등 5글자 단어를 단어장에 추가하세요.");
+                    "Wordle을 위해 " + length + "글자 영단어가 필요합니다.\n" +
+                            "예: apple, major 등 " + length + "글자 단어를 단어장에 추가하세요.");
             dispose();
             return;
         }
-        targetWord = target.getEng().toLowerCase();
+        targetWord = target.getEng().toLowerCase(Locale.ROOT);
         targetKor = target.getKor();
 
         initComponents();
@@ -40,7 +55,7 @@ public class WordleFrame extends JFrame {
     private void initComponents() {
         setLayout(new BorderLayout());
 
-        JLabel title = new JLabel("5글자 영단어를 6번 안에 맞춰보세요!", SwingConstants.CENTER);
+        JLabel title = new JLabel(length + "글자 영단어를 " + MAX_ATTEMPTS + "번 안에 맞춰보세요!", SwingConstants.CENTER);
         add(title, BorderLayout.NORTH);
 
         historyArea = new JTextArea();
@@ -55,6 +70,8 @@ public class WordleFrame extends JFrame {
         inputPanel.add(guessField);
         JButton tryBtn = new JButton("Try");
         inputPanel.add(tryBtn);
+        hintBtn = new JButton("Hint");
+        inputPanel.add(hintBtn);
         bottom.add(inputPanel, BorderLayout.NORTH);
 
         infoLabel = new JLabel("시도: 0 / " + MAX_ATTEMPTS, SwingConstants.CENTER);
@@ -64,36 +81,67 @@ public class WordleFrame extends JFrame {
 
         tryBtn.addActionListener(this::handleGuess);
         guessField.addActionListener(this::handleGuess);
+        hintBtn.addActionListener(e -> showHint());
+    }
+
+    // 지금까지의 피드백으로 후보를 좁히고 정보량이 큰 추측을 보여 준다 (계산은 EDT 밖에서)
+    private void showHint() {
+        hintBtn.setEnabled(false);
+        List<String> g = new ArrayList<>(guesses);
+        List<Integer> f = new ArrayList<>(feedbacks);
+        new SwingWorker<String, Void>() {
+            @Override
+            protected String doInBackground() {
+                WordleSolver solver = manager.getWordleSolver(length);
+                BitSet left = solver.all();
+                for (int i = 0; i < g.size(); i++) left = solver.narrow(left, g.get(i), f.get(i));
+                StringBuilder sb = new StringBuilder("힌트: 남은 후보 " + left.cardinality() + "개");
+                for (WordleSolver.Hint h : solver.rank(left, 3)) sb.append("\n   ").append(h);
+                return sb.append('\n').toString();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    historyArea.append(get());
+                } catch (Exception ex) {
+                    historyArea.append("힌트 계산 오류: " + ex.getMessage() + "\n");
+                }
+                hintBtn.setEnabled(attempt < MAX_ATTEMPTS && guessField.isEditable());
+            }
+        }.execute();
     }
 
     private void handleGuess(ActionEvent e) {
         if (attempt >= MAX_ATTEMPTS) return;
 
-        String guess = guessField.getText().trim().toLowerCase();
-        if (guess.length() != 5 || !guess.matches("[A-Za-z]{5}")) {
+        String guess = guessField.getText().trim().toLowerCase(Locale.ROOT);
+        if (guess.length() != length || !WordlePool.isCandidate(guess)) {
             JOptionPane.showMessageDialog(this,
-                    "영문자 5글자만 입력해야 합니다. (공백/숫자 X)");
+                    "영문자 " + length + "글자만 입력해야 합니다. (공백/숫자 X)");
             return;
         }
 
         attempt++;
 
         if (guess.equals(targetWord)) {
-            historyArea.append(guess.toUpperCase() + "  ->  ⭐⭐⭐⭐⭐ (정답!)\n");
+            historyArea.append(guess.toUpperCase() + "  ->  "
+                    + WordleFeedback.render(WordleFeedback.solved(length), length) + " (정답!)\n");
             infoLabel.setText("시도: " + attempt + " / " + MAX_ATTEMPTS);
 
-            manager.appendWordleLog(
-                    "SUCCESS\t" + targetWord.toUpperCase() +
-                            "\t" + attempt + " tries\t" + targetKor);
+            manager.recordWordleGame(true, targetWord, attempt, targetKor);
 
             JOptionPane.showMessageDialog(this,
                     "축하합니다! " + attempt + "번 만에 정답을 맞혔습니다.\n" +
                             targetWord.toUpperCase() + " : " + targetKor);
             guessField.setEditable(false);
+            hintBtn.setEnabled(false);
             return;
         } else {
-            String feedback = VocManager.generateWordleFeedback(targetWord, guess);
-            historyArea.append(guess.toUpperCase() + "  ->  " + feedback + "\n");
+            int code = WordleFeedback.score(targetWord, guess);
+            guesses.add(guess);
+            feedbacks.add(code);
+            historyArea.append(guess.toUpperCase() + "  ->  " + WordleFeedback.render(code, length) + "\n");
         }
 
         infoLabel.setText("시도: " + attempt + " / " + MAX_ATTEMPTS);
@@ -101,14 +149,13 @@ public class WordleFrame extends JFrame {
         guessField.requestFocusInWindow();
 
         if (attempt >= MAX_ATTEMPTS) {
-            manager.appendWordleLog(
-                    "FAIL\t" + targetWord.toUpperCase() +
-                            "\t" + attempt + " tries\t" + targetKor);
+            manager.recordWordleGame(false, targetWord, attempt, targetKor);
 
             JOptionPane.showMessageDialog(this,
                     "아쉽습니다. 기회를 모두 사용했습니다.\n" +
                             "정답: " + targetWord.toUpperCase() + "\n뜻: " + targetKor);
             guessField.setEditable(false);
+            hintBtn.setEnabled(false);
         }
     }
 }
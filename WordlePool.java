@@ -0,0 +1,206 @@
+package team10;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Wordle 정답 후보 (띄어쓰기 없는 영문자 MIN_LENGTH~MAX_LENGTH 글자) 를 글자 수별로 모아 둔 풀.
+// 단어장이 바뀔 때마다 add/remove 로 같이 갱신하므로 게임을 시작할 때 전체를 훑을 필요가 없다.
+// 삭제는 마지막 원소와 자리를 바꾸는 방식이라 O(1), 무작위 선택도 O(1).
+//
+// 층: new WordlePool(base) 는 공용 base 를 고치지 않고, 추가된 단어는 자기 버킷에,
+// 지운 base 단어는 hidden 에만 적는다. 뽑을 때는 두 쪽 크기에 비례해 고르고
+// base 쪽에서 가려진 단어가 나오면 다시 뽑는다. base 는 바뀌지 않으므로 잠금 없이 unlocked* 로 읽는다.
+//
+// new WordlePool(frozen) 은 freeze 한 CompactVocStore (공용 기본 단어장) 의 읽기 전용 풀.
+// 글자 수별로 후보의 id 만 들고, 뽑거나 꺼낼 때 Word 를 만든다.
+public class WordlePool {
+
+    public static final int MIN_LENGTH = 4;
+    public static final int MAX_LENGTH = 8;
+
+    private final List<List<Word>> buckets = new ArrayList<>();
+    private final HashMap<String, Integer> positions = new HashMap<>();   // 키 → 버킷 안 위치
+    private final int[] versions = new int[MAX_LENGTH - MIN_LENGTH + 1];   // 버킷이 바뀔 때마다 +1
+
+    private final WordlePool base;   // null 이면 단독 풀
+    private final HashSet<String> hidden = new HashSet<>();   // 지워진 base 단어의 키
+    private final int[] hiddenCounts = new int[MAX_LENGTH - MIN_LENGTH + 1];
+
+    private final CompactVocStore frozen;   // null 이 아니면 읽기 전용
+    private final int[][] frozenIds = new int[MAX_LENGTH - MIN_LENGTH + 1][];   // 글자 수별 후보 id
+
+    public WordlePool() {
+        this((WordlePool) null);
+    }
+
+    // base 는 이후 바뀌지 않아야 한다
+    public WordlePool(WordlePool base) {
+        this.base = base;
+        this.frozen = null;
+        for (int len = MIN_LENGTH; len <= MAX_LENGTH; len++) buckets.add(new ArrayList<>());
+    }
+
+    // frozen.freeze() 한 뒤여야 한다. 추가/삭제는 UnsupportedOperationException
+    public WordlePool(CompactVocStore frozen) {
+        if (!frozen.isFrozen()) throw new IllegalArgumentException("freeze 하지 않은 저장소");
+        this.base = null;
+        this.frozen = frozen;
+        int[] counts = new int[frozenIds.length];
+        for (int id = 0; id < frozen.size(); id++) {
+            String eng = frozen.eng(id);
+            if (isCandidate(eng)) counts[eng.length() - MIN_LENGTH]++;
+        }
+        for (int i = 0; i < frozenIds.length; i++) frozenIds[i] = new int[counts[i]];
+        int[] filled = new int[frozenIds.length];
+        for (int id = 0; id < frozen.size(); id++) {
+            String eng = frozen.eng(id);
+            if (!isCandidate(eng)) continue;
+            int i = eng.length() - MIN_LENGTH;
+            frozenIds[i][filled[i]++] = id;
+        }
+    }
+
+    // 기존 [A-Za-z]{n} 정규식과 같은 조건
+    public static boolean isCandidate(String eng) {
+        if (eng == null || eng.length() < MIN_LENGTH || eng.length() > MAX_LENGTH) return false;
+        for (int i = 0; i < eng.length(); i++) {
+            char c = eng.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) return false;
+        }
+        return true;
+    }
+
+    public synchronized void addAll(Collection<Word> words) {
+        for (Word w : words) add(w);
+    }
+
+    public synchronized boolean add(Word w) {
+        readOnlyCheck();
+        if (!isCandidate(w.getEng()) || contains(w.getKey())) return false;
+        List<Word> bucket = bucket(w.getEng().length());
+        positions.put(w.getKey(), bucket.size());
+        bucket.add(w);
+        versions[w.getEng().length() - MIN_LENGTH]++;
+        return true;
+    }
+
+    public synchronized boolean remove(Word w) {
+        readOnlyCheck();
+        Integer pos = positions.remove(w.getKey());
+        if (pos == null) return hide(w.getKey());
+        List<Word> bucket = bucket(w.getKey().length());   // 후보는 공백이 없어 키 길이 = 글자 수
+        Word last = bucket.remove(bucket.size() - 1);
+        if (pos < bucket.size()) {
+            bucket.set(pos, last);
+            positions.put(last.getKey(), pos);
+        }
+        versions[w.getKey().length() - MIN_LENGTH]++;
+        return true;
+    }
+
+    public synchronized boolean contains(String eng) {
+        return unlockedContains(Word.keyOf(eng));
+    }
+
+    private boolean unlockedContains(String key) {
+        if (frozen != null) {
+            int id = frozen.id(key);
+            return id >= 0 && isCandidate(frozen.eng(id));
+        }
+        if (positions.containsKey(key)) return true;
+        return base != null && !hidden.contains(key) && base.unlockedContains(key);
+    }
+
+    public synchronized int size(int length) {
+        return unlockedSize(length);
+    }
+
+    private int unlockedSize(int length) {
+        if (!inRange(length)) return 0;
+        if (frozen != null) return frozenIds[length - MIN_LENGTH].length;
+        int own = bucket(length).size();
+        return base == null ? own : own + base.unlockedSize(length) - hiddenCounts[length - MIN_LENGTH];
+    }
+
+    // length 글자 후보 중 하나, 없으면 null
+    public Word random(int length) {
+        return random(length, ThreadLocalRandom.current());
+    }
+
+    public synchronized Word random(int length, Random rand) {
+        return unlockedRandom(length, rand);
+    }
+
+    private Word unlockedRandom(int length, Random rand) {
+        int total = unlockedSize(length);
+        if (total == 0) return null;
+        if (frozen != null) return frozen.word(frozenIds[length - MIN_LENGTH][rand.nextInt(total)]);
+        List<Word> bucket = bucket(length);
+        int i = rand.nextInt(total);
+        if (i < bucket.size()) return bucket.get(i);
+        // base 쪽: 가려진 단어가 대부분이 아니면 몇 번 안에 나온다
+        for (int tries = 0; tries < 32; tries++) {
+            Word w = base.unlockedRandom(length, rand);
+            if (!hidden.contains(w.getKey())) return w;
+        }
+        List<Word> visible = visibleBase(length);
+        return visible.get(rand.nextInt(visible.size()));
+    }
+
+    // length 글자 후보가 바뀐 횟수 (캐시가 최신인지 확인용)
+    public synchronized int version(int length) {
+        return inRange(length) ? versions[length - MIN_LENGTH] : 0;
+    }
+
+    // length 글자 후보 사본 (순서 무관)
+    public synchronized List<Word> candidates(int length) {
+        return unlockedCandidates(length);
+    }
+
+    private List<Word> unlockedCandidates(int length) {
+        if (!inRange(length)) return new ArrayList<>();
+        if (frozen != null) {
+            int[] ids = frozenIds[length - MIN_LENGTH];
+            List<Word> out = new ArrayList<>(ids.length);
+            for (int id : ids) out.add(frozen.word(id));
+            return out;
+        }
+        if (base == null) return new ArrayList<>(bucket(length));
+        List<Word> out = visibleBase(length);
+        out.addAll(bucket(length));
+        return out;
+    }
+
+    /* ================== 층 ================== */
+
+    private boolean hide(String key) {
+        if (base == null || hidden.contains(key) || !base.unlockedContains(key)) return false;
+        hidden.add(key);
+        hiddenCounts[key.length() - MIN_LENGTH]++;
+        versions[key.length() - MIN_LENGTH]++;
+        return true;
+    }
+
+    private List<Word> visibleBase(int length) {
+        List<Word> out = base.unlockedCandidates(length);
+        if (!hidden.isEmpty()) out.removeIf(w -> hidden.contains(w.getKey()));
+        return out;
+    }
+
+    private void readOnlyCheck() {
+        if (frozen != null) throw new UnsupportedOperationException("읽기 전용 풀");
+    }
+
+    private static boolean inRange(int length) {
+        return length >= MIN_LENGTH && length <= MAX_LENGTH;
+    }
+
+    private List<Word> bucket(int length) {
+        return buckets.get(length - MIN_LENGTH);
+    }
+}
@@ -0,0 +1,199 @@
+package team10;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// 화면 없이 Wordle 을 대량으로 돌려 보는 시뮬레이터.
+// 같은 글자 수의 후보 단어 하나하나를 정답으로 놓고 전략(Strategy)대로 게임을 gamesPerTarget 번씩 진행한 뒤,
+// 정답 단어별로 몇 번째에 맞혔는지 분포를 모은다. 정답 단어끼리는 병렬 (ForkJoin 공용 풀 = 코어 수).
+// 채점은 WordleSolver 의 미리 계산된 채점표(= WordleFeedback) 를 쓴다.
+//
+//   java team10.WordleSimulator [사용자] [글자 수] [정답당 게임 수] [entropy|random] [결과 csv]
+public class WordleSimulator {
+
+    // 다음에 낼 단어 번호를 고른다. candidates: 지금까지의 피드백과 맞는 정답 후보
+    public interface Strategy {
+        int nextGuess(WordleSolver solver, BitSet candidates, int turn, SplittableRandom rand);
+    }
+
+    // 남은 후보 중 아무거나
+    public static final Strategy RANDOM = (solver, candidates, turn, rand) -> {
+        int k = rand.nextInt(candidates.cardinality());
+        int g = candidates.nextSetBit(0);
+        while (k-- > 0) g = candidates.nextSetBit(g + 1);
+        return g;
+    };
+
+    // 정보량이 가장 큰 단어. 첫 수는 항상 같으므로 한 번만 계산 (solver 하나에만 사용할 것)
+    public static Strategy entropy() {
+        return new Strategy() {
+            private int opening = -1;
+
+            @Override
+            public int nextGuess(WordleSolver solver, BitSet candidates, int turn, SplittableRandom rand) {
+                if (turn == 1) {
+                    synchronized (this) {
+                        if (opening < 0) opening = solver.bestGuess(candidates);
+                        return opening;
+                    }
+                }
+                return solver.bestGuess(candidates);
+            }
+        };
+    }
+
+    public static final class TargetStats {
+        public final Word word;
+        public final int[] solvedAt;   // [k] = k 번째 시도에 맞힌 게임 수 (1..maxAttempts)
+        public int games;
+        public int failed;
+
+        TargetStats(Word word, int maxAttempts) {
+            this.word = word;
+            this.solvedAt = new int[maxAttempts + 1];
+        }
+
+        public double solveRate() { return games == 0 ? 0 : (games - failed) / (double) games; }
+
+        // 맞힌 게임의 평균 시도 수
+        public double meanGuesses() {
+            long sum = 0;
+            for (int k = 1; k < solvedAt.length; k++) sum += (long) k * solvedAt[k];
+            int solved = games - failed;
+            return solved == 0 ? 0 : sum / (double) solved;
+        }
+    }
+
+    public static final class Report {
+        public final List<TargetStats> targets;
+        public final long games;
+        public final long nanos;
+        public final int[] solvedAt;
+        public final long failed;
+
+        Report(List<TargetStats> targets, int maxAttempts, long nanos) {
+            this.targets = targets;
+            this.nanos = nanos;
+            this.solvedAt = new int[maxAttempts + 1];
+            long g = 0, f = 0;
+            for (TargetStats t : targets) {
+                g += t.games;
+                f += t.failed;
+                for (int k = 1; k <= maxAttempts; k++) solvedAt[k] += t.solvedAt[k];
+            }
+            this.games = g;
+            this.failed = f;
+        }
+
+        public double gamesPerSecond() { return nanos == 0 ? 0 : games * 1e9 / nanos; }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("정답 %d개, 게임 %d판, %.1f s (%.0f 판/s)%n",
+                    targets.size(), games, nanos / 1e9, gamesPerSecond()));
+            for (int k = 1; k < solvedAt.length; k++) {
+                sb.append(String.format("  %d번째: %6.2f%%%n", k, games == 0 ? 0 : 100.0 * solvedAt[k] / games));
+            }
+            sb.append(String.format("  실패 : %6.2f%%%n", games == 0 ? 0 : 100.0 * failed / games));
+            return sb.toString();
+        }
+    }
+
+    private final WordleSolver solver;
+    private final int maxAttempts;
+
+    public WordleSimulator(WordleSolver solver, int maxAttempts) {
+        this.solver = solver;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Report run(Strategy strategy, int gamesPerTarget, long seed) {
+        long start = System.nanoTime();
+        int n = solver.size();
+        TargetStats[] stats = new TargetStats[n];
+        IntStream.range(0, n).parallel().forEach(t -> {
+            TargetStats st = new TargetStats(solver.get(t), maxAttempts);
+            SplittableRandom rand = new SplittableRandom(seed * 31 + t);
+            for (int i = 0; i < gamesPerTarget; i++) {
+                int turns = play(strategy, t, rand);
+                st.games++;
+                if (turns < 0) st.failed++;
+                else st.solvedAt[turns]++;
+            }
+            stats[t] = st;
+        });
+        List<TargetStats> list = new ArrayList<>(n);
+        for (TargetStats st : stats) list.add(st);
+        return new Report(list, maxAttempts, System.nanoTime() - start);
+    }
+
+    // 맞힌 시도 번호, 못 맞히면 -1
+    private int play(Strategy strategy, int target, SplittableRandom rand) {
+        BitSet candidates = solver.all();
+        int solved = WordleFeedback.solved(solver.getLength());
+        for (int turn = 1; turn <= maxAttempts; turn++) {
+            int guess = strategy.nextGuess(solver, candidates, turn, rand);
+            int feedback = solver.feedback(guess, target);
+            if (feedback == solved) return turn;
+            candidates = solver.narrow(candidates, guess, feedback);
+        }
+        return -1;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String user = args.length > 0 ? args[0] : "Guest";
+        int length = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int games = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        String name = args.length > 3 ? args[3] : "entropy";
+        Strategy strategy = name.equals("random") ? RANDOM : entropy();
+
+        VocManager manager = new VocManager(user);
+        long start = System.nanoTime();
+        WordleSolver solver = manager.getWordleSolver(length);
+        manager.close();   // 힌트 엔진만 쓴다
+        System.out.printf("%d글자 후보 %d개, 채점표 %.1f s%n", length, solver.size(), (System.nanoTime() - start) / 1e9);
+        if (solver.size() == 0) return;
+
+        Report report = new WordleSimulator(solver, 6).run(strategy, games, 42);
+        System.out.println("[" + name + "] " + report);
+
+        List<TargetStats> hardest = new ArrayList<>(report.targets);
+        hardest.sort(Comparator.comparingDouble(TargetStats::solveRate)
+                .thenComparing(Comparator.comparingDouble(TargetStats::meanGuesses).reversed()));
+        System.out.println("어려운 정답 단어:");
+        for (TargetStats t : hardest.subList(0, Math.min(20, hardest.size()))) {
+            System.out.printf("  %-10s 성공 %5.1f%%, 평균 %.2f번%n",
+                    t.word.getEng(), 100 * t.solveRate(), t.meanGuesses());
+        }
+
+        if (args.length > 4) {
+            AtomicFiles.write(Paths.get(args[4]), out -> {
+                PrintWriter pw = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                StringBuilder header = new StringBuilder("word,games,solve_rate,mean_guesses");
+                for (int k = 1; k <= 6; k++) header.append(",at").append(k);
+                pw.println(header.append(",failed"));
+                for (TargetStats t : report.targets) {
+                    StringBuilder row = new StringBuilder(t.word.getEng())
+                            .append(',').append(t.games)
+                            .append(',').append(String.format(Locale.ROOT, "%.4f", t.solveRate()))
+                            .append(',').append(String.format(Locale.ROOT, "%.3f", t.meanGuesses()));
+                    for (int k = 1; k <= 6; k++) row.append(',').append(t.solvedAt[k]);
+                    pw.println(row.append(',').append(t.failed));
+                }
+                pw.flush();
+            });
+            System.out.println("결과 저장: " + args[4]);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package team10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+// Wordle 힌트 엔진.
+// 같은 글자 수 단어들로 (추측 × 정답) 채점표를 미리 병렬로 만들어 두고,
+// 남은 후보는 BitSet 으로 들고 다니며 피드백마다 걸러 낸다.
+// 다음 추측은 남은 후보를 얼마나 고르게 나누는지(기대 정보량, bit) 순으로 추천한다.
+public class WordleSolver {
+
+    public static final class Hint {
+        public final Word word;
+        public final double bits;        // 기대 정보량
+        public final boolean candidate;  // 정답일 수도 있는 단어인지
+
+        Hint(Word word, double bits, boolean candidate) {
+            this.word = word;
+            this.bits = bits;
+            this.candidate = candidate;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (%.2f bits%s)", word.getEng(), bits, candidate ? ", 후보" : "");
+        }
+    }
+
+    private final Word[] words;
+    private final String[] lower;
+    private final HashMap<String, Integer> ids = new HashMap<>();
+    private final int length;
+    private final int n;
+    private final int version;
+    // 채점표: [guess * n + target] = WordleFeedback 코드. 결과 수가 256 이하(5글자 이하)면 byte
+    private final byte[] small;
+    private final short[] large;
+    private final double[] xLogX;   // [c] = c * ln c (후보 수 이하)
+
+    private static final double LN2 = Math.log(2);
+
+    public WordleSolver(Collection<Word> words, int length) {
+        this(words, length, 0);
+    }
+
+    // version: 만들 때의 후보 풀 상태 (VocManager 가 다시 만들지 판단하는 용도)
+    WordleSolver(Collection<Word> words, int length, int version) {
+        List<Word> list = new ArrayList<>();
+        for (Word w : words) {
+            if (w.getEng().length() == length) list.add(w);
+        }
+        this.words = list.toArray(new Word[0]);
+        this.n = this.words.length;
+        this.length = length;
+        this.version = version;
+        this.lower = new String[n];
+        for (int i = 0; i < n; i++) {
+            lower[i] = this.words[i].getEng().toLowerCase(Locale.ROOT);
+            ids.putIfAbsent(lower[i], i);
+        }
+        if ((long) n * n > Integer.MAX_VALUE) throw new IllegalArgumentException("단어가 너무 많습니다: " + n);
+
+        xLogX = new double[n + 1];
+        for (int c = 1; c <= n; c++) xLogX[c] = c * Math.log(c);
+
+        boolean fitsByte = WordleFeedback.count(length) <= 256;
+        small = fitsByte ? new byte[n * n] : null;
+        large = fitsByte ? null : new short[n * n];
+        IntStream.range(0, n).parallel().forEach(g -> {
+            int row = g * n;
+            for (int t = 0; t < n; t++) {
+                int code = WordleFeedback.score(lower[t], lower[g]);
+                if (small != null) small[row + t] = (byte) code;
+                else large[row + t] = (short) code;
+            }
+        });
+    }
+
+    public int size() { return n; }
+    public int getLength() { return length; }
+    int getVersion() { return version; }
+    public Word get(int i) { return words[i]; }
+
+    // 아직 아무 정보도 없을 때의 후보 (전부)
+    public BitSet all() {
+        BitSet b = new BitSet(n);
+        b.set(0, n);
+        return b;
+    }
+
+    // guess 를 냈더니 feedback 이 나왔다 → 그와 맞는 후보만 남긴다 (guess 가 목록에 없어도 된다)
+    public BitSet narrow(BitSet candidates, String guess, int feedback) {
+        String g = guess.toLowerCase(Locale.ROOT);
+        int gi = indexOf(g);
+        BitSet out = new BitSet(n);
+        for (int t = candidates.nextSetBit(0); t >= 0; t = candidates.nextSetBit(t + 1)) {
+            int code = gi >= 0 ? code(gi, t) : WordleFeedback.score(lower[t], g);
+            if (code == feedback) out.set(t);
+        }
+        return out;
+    }
+
+    // 목록 안의 guess 번째 단어로 좁히기 (시뮬레이터처럼 문자열 조회 없이)
+    public BitSet narrow(BitSet candidates, int guess, int feedback) {
+        BitSet out = new BitSet(n);
+        for (int t = candidates.nextSetBit(0); t >= 0; t = candidates.nextSetBit(t + 1)) {
+            if (code(guess, t) == feedback) out.set(t);
+        }
+        return out;
+    }
+
+    // 채점표에서 꺼낸 피드백 (WordleFeedback.score(target, guess) 와 같은 값)
+    public int feedback(int guess, int target) {
+        return code(guess, target);
+    }
+
+    public List<Word> candidates(BitSet candidates) {
+        List<Word> out = new ArrayList<>(candidates.cardinality());
+        for (int t = candidates.nextSetBit(0); t >= 0; t = candidates.nextSetBit(t + 1)) out.add(words[t]);
+        return out;
+    }
+
+    // guess 번째 단어를 냈을 때 남은 후보에 대한 기대 정보량 (bit)
+    public double entropy(int guess, BitSet candidates) {
+        return entropy(guess, candidates, new int[WordleFeedback.count(length)]);
+    }
+
+    private double entropy(int guess, BitSet candidates, int[] histogram) {
+        return entropy(guess, candidates.stream().toArray(), histogram);
+    }
+
+    // histogram 은 비어 있는 상태로 받아 비워서 돌려준다 (후보 수만큼만 돌고, 결과 수 전체는 훑지 않음)
+    private double entropy(int guess, int[] targets, int[] histogram) {
+        int m = targets.length;
+        if (m == 0) return 0;
+        int row = guess * n;
+        for (int t : targets) histogram[code(row + t)]++;
+        double sum = 0;
+        for (int t : targets) {
+            int code = code(row + t);
+            int c = histogram[code];
+            if (c > 0) {
+                sum += xLogX[c];
+                histogram[code] = 0;
+            }
+        }
+        return (xLogX[m] - sum) / m / LN2;
+    }
+
+    // 기대 정보량 순으로 최대 limit 개 (같으면 정답 후보를 먼저, 그다음 알파벳순)
+    public List<Hint> rank(BitSet candidates, int limit) {
+        int remaining = candidates.cardinality();
+        if (remaining == 0) return new ArrayList<>();
+        if (remaining == 1) {
+            List<Hint> only = new ArrayList<>();
+            only.add(new Hint(words[candidates.nextSetBit(0)], 0, true));
+            return only;
+        }
+        double[] bits = new double[n];
+        int outcomes = WordleFeedback.count(length);
+        int[] targets = candidates.stream().toArray();
+        IntStream.range(0, n).parallel().forEach(g -> bits[g] = entropy(g, targets, new int[outcomes]));
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> {
+            int c = Double.compare(bits[b], bits[a]);
+            if (c != 0) return c;
+            c = Boolean.compare(candidates.get(b), candidates.get(a));
+            return c != 0 ? c : lower[a].compareTo(lower[b]);
+        });
+
+        List<Hint> out = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, n); i++) {
+            int g = order[i];
+            out.add(new Hint(words[g], bits[g], candidates.get(g)));
+        }
+        return out;
+    }
+
+    // rank(candidates, 1) 과 같은 단어의 번호. 한 스레드에서 순서대로 계산 (시뮬레이션처럼 바깥에서 병렬일 때)
+    public int bestGuess(BitSet candidates) {
+        int[] histogram = new int[WordleFeedback.count(length)];
+        int[] targets = candidates.stream().toArray();
+        int best = -1;
+        double bestBits = -1;
+        for (int g = 0; g < n; g++) {
+            double bits = entropy(g, targets, histogram);
+            int c = Double.compare(bits, bestBits);
+            if (c == 0) {
+                c = Boolean.compare(candidates.get(g), candidates.get(best));
+                if (c == 0) c = lower[best].compareTo(lower[g]);
+            }
+            if (c > 0) {
+                best = g;
+                bestBits = bits;
+            }
+        }
+        return best;
+    }
+
+    private int code(int guess, int target) {
+        return code(guess * n + target);
+    }
+
+    private int code(int at) {
+        return small != null ? small[at] & 0xFF : large[at];
+    }
+
+    private int indexOf(String lowerEng) {
+        Integer id = ids.get(lowerEng);
+        return id == null ? -1 : id;
+    }
+}
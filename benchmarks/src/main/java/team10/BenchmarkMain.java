@@ -0,0 +1,19 @@
+package team10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// benchmarks.jar 진입점. JMH 명령줄 옵션을 그대로 넘기되, 따로 주지 않으면
+//   -rf json   : 결과를 jmh-result.json 으로 (파일 이름은 -rff 로)
+//   -prof gc   : 할당률 (gc.alloc.rate = MB/s, gc.alloc.rate.norm = 바이트/연산)
+// 을 붙인다. 예) java -jar benchmarks/target/benchmarks.jar DictionaryBenchmark -p size=100000
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        List<String> list = new ArrayList<>(Arrays.asList(args));
+        if (!list.contains("-rf")) list.addAll(0, List.of("-rf", "json"));
+        if (!list.contains("-prof")) list.addAll(0, List.of("-prof", "gc"));
+        org.openjdk.jmh.Main.main(list.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,64 @@
+package team10;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 조회 / 검색 / 철자 제안 / 추가·삭제 (VocManager 공개 메서드 그대로)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class DictionaryBenchmark {
+
+    private int next;
+    private int added;
+
+    private int next() {
+        return next++ & (DictionaryState.QUERIES - 1);
+    }
+
+    @Benchmark
+    public Word lookupHit(DictionaryState d) {
+        return d.manager.searchWord(d.hits[next()]);
+    }
+
+    @Benchmark
+    public Word lookupMiss(DictionaryState d) {
+        return d.manager.searchWord(d.misses[next()]);
+    }
+
+    @Benchmark
+    public List<Word> searchEnglish(DictionaryState d) {
+        return d.manager.search(d.engPrefixes[next()], 20);
+    }
+
+    @Benchmark
+    public List<Word> searchKorean(DictionaryState d) {
+        return d.manager.search(d.korKeywords[next()], 20);
+    }
+
+    @Benchmark
+    public List<Word> suggest(DictionaryState d) {
+        return d.manager.suggestWords(d.typos[next()], 5);
+    }
+
+    // 새 단어를 넣고 바로 지운다 (단어 수는 그대로, 저널에는 두 줄)
+    @Benchmark
+    public boolean addAndDelete(DictionaryState d) {
+        String eng = "zzbench" + (added++ & 0xFFFF);
+        d.manager.addWord(eng, "벤치마크");
+        return d.manager.deleteWord(eng);
+    }
+}
@@ -0,0 +1,75 @@
+package team10;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+// 벤치마크가 같이 쓰는 단어장: 임시 폴더에 합성 words.txt 를 쓰고 그것을 기본 단어장으로 VocManager 를 연다.
+// 조회어는 미리 QUERIES 개씩 만들어 두고 돌려 가며 쓴다 (측정 중 문자열을 만들지 않도록)
+@State(Scope.Benchmark)
+public class DictionaryState {
+
+    static final int QUERIES = 1024;   // 2 의 거듭제곱 (next() 가 & 로 돌린다)
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    Path dir;
+    Path file;
+    VocManager manager;
+
+    String[] hits;          // 있는 단어 (대소문자 섞음)
+    String[] misses;        // 없는 단어
+    String[] engPrefixes;   // 영어 앞 3글자
+    String[] korKeywords;   // 뜻 속 한글 두 음절
+    String[] typos;         // 한 글자 틀린 철자
+    Word[] answers;         // 퀴즈 정답
+    String[] fiveLetter;    // Wordle 후보 (정답/추측)
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("voc-bench");
+        file = dir.resolve("words.txt");
+        SyntheticDictionary.write(file, size);
+        manager = new VocManager(dir.resolve("bench").toString(), file.toString());
+
+        SplittableRandom r = new SplittableRandom(42);
+        hits = new String[QUERIES];
+        misses = new String[QUERIES];
+        engPrefixes = new String[QUERIES];
+        korKeywords = new String[QUERIES];
+        typos = new String[QUERIES];
+        answers = new Word[QUERIES];
+        fiveLetter = new String[QUERIES];
+        int fives = Math.min(SyntheticDictionary.FIVE_LETTER_MAX, (size + 7) / 8);
+        for (int q = 0; q < QUERIES; q++) {
+            String eng = SyntheticDictionary.eng(r.nextInt(size));
+            hits[q] = r.nextBoolean() ? eng.toUpperCase() : eng;
+            misses[q] = eng + "-x";
+            engPrefixes[q] = eng.substring(0, 3).toLowerCase();
+            String kor = SyntheticDictionary.kor(r.nextInt(size));
+            korKeywords[q] = kor.substring(0, 2);
+            typos[q] = SyntheticDictionary.typo(eng, r);
+            answers[q] = manager.searchWord(eng);
+            fiveLetter[q] = SyntheticDictionary.eng(8 * r.nextInt(fives));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        manager.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+}
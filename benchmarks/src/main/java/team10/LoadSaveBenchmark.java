@@ -0,0 +1,75 @@
+package team10;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 단어장 파일 읽기 / 쓰기 (한 번에 단어장 전체)
+//   loadText     : words.txt 병렬 로드 (VocLoader)
+//   loadSnapshot : 바이너리 스냅샷(words.snap)을 열어 전체를 Word 로
+//   saveSnapshot : 스냅샷 새로 쓰기
+//   exportText   : 텍스트로 내보내기
+//   saveOverlay  : 사용자 층 저장 (종료 때의 saveVocToFile, 추가/수정 EDITS 개씩 든 층)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class LoadSaveBenchmark {
+
+    private static final int EDITS = 1000;
+
+    private Path snapshot;
+    private Path snapshotOut;
+    private Path textOut;
+
+    @Setup(Level.Trial)
+    public void setUp(DictionaryState d) {
+        snapshot = VocManager.snapshotPathOf(d.file.toString());   // 기본 단어장을 읽을 때 만들어 둔 것
+        snapshotOut = d.dir.resolve("out.snap");
+        textOut = d.dir.resolve("out.txt");
+        for (int i = 0; i < EDITS; i++) {
+            d.manager.addWord("zzsave" + i, "저장 벤치마크");
+            d.manager.editWord(SyntheticDictionary.eng(i * (d.size / EDITS)), "고친 뜻");
+        }
+    }
+
+    @Benchmark
+    public List<Word> loadText(DictionaryState d) throws IOException {
+        return VocLoader.load(d.file).words;
+    }
+
+    @Benchmark
+    public List<Word> loadSnapshot(DictionaryState d) {
+        return VocSnapshot.open(snapshot, d.file).words();
+    }
+
+    @Benchmark
+    public void saveSnapshot(DictionaryState d) throws IOException {
+        VocSnapshot.write(snapshotOut, d.manager.getVoc(), d.file);
+    }
+
+    @Benchmark
+    public void exportText(DictionaryState d) throws IOException {
+        d.manager.exportText(textOut.toFile());
+    }
+
+    @Benchmark
+    public void saveOverlay(DictionaryState d) {
+        d.manager.saveVocToFile();
+    }
+}
@@ -0,0 +1,63 @@
+package team10;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 퀴즈 문제 고르기: 무작위 표본 (WordSampler), 간격 반복 큐 (ReviewScheduler), 보기 뽑기 (DistractorEngine)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class QuizBenchmark {
+
+    private static final int QUESTIONS = 10;
+
+    private final Random rand = new Random(42);
+    private int next;
+
+    private int next() {
+        return next++ & (DictionaryState.QUERIES - 1);
+    }
+
+    @Benchmark
+    public List<Word> sampleQuestions(DictionaryState d) {
+        return WordSampler.sample(d.manager.getSortedVoc(), QUESTIONS, null, rand);
+    }
+
+    @Benchmark
+    public List<Word> reviewQueue(DictionaryState d) {
+        return d.manager.getReviewScheduler().next(QUESTIONS);
+    }
+
+    // 한 문제 꺼내 채점까지 (카드가 하나씩 늘어난다)
+    @Benchmark
+    public Word reviewAnswer(DictionaryState d) {
+        ReviewScheduler scheduler = d.manager.getReviewScheduler();
+        Word w = scheduler.next(1).get(0);
+        scheduler.review(w, rand.nextInt(4) != 0);
+        return w;
+    }
+
+    @Benchmark
+    public List<Word> distractorsRandom(DictionaryState d) {
+        return d.manager.getDistractors().pick(d.answers[next()], 3, DistractorEngine.Mode.RANDOM, rand);
+    }
+
+    @Benchmark
+    public List<Word> distractorsHard(DictionaryState d) {
+        return d.manager.getDistractors().pick(d.answers[next()], 3, DistractorEngine.Mode.HARD, rand);
+    }
+}
@@ -0,0 +1,79 @@
+package team10;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+// 벤치마크용 합성 단어장 ("영어<TAB>뜻" n 줄). 같은 번호는 항상 같은 단어.
+//   영어: 소문자 (열 개에 하나는 대문자로 시작), 키가 겹치지 않는다.
+//         여덟 개에 하나는 5글자 (Wordle 후보, 최대 FIVE_LETTER_MAX 개), 나머지는 6~12글자
+//   뜻  : 한글 낱말 1~3개를 쉼표로 잇고, 여섯 개에 하나는 괄호 안에 영어 낱말을 섞는다
+final class SyntheticDictionary {
+
+    // 힌트 엔진 채점표가 후보 수의 제곱이라 실제 사전 규모로 묶어 둔다
+    static final int FIVE_LETTER_MAX = 2000;
+
+    private static final int CODES = 26 * 26 * 26 * 26 * 26;   // 5글자 조합 수 (번호 → 글자가 1:1)
+
+    private SyntheticDictionary() {}
+
+    static void write(Path file, int n) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < n; i++) {
+                out.write(eng(i));
+                out.write('\t');
+                out.write(kor(i));
+                out.write('\n');
+            }
+        }
+    }
+
+    static boolean isFiveLetter(int i) {
+        return i % 8 == 0 && i / 8 < FIVE_LETTER_MAX;
+    }
+
+    static String eng(int i) {
+        SplittableRandom r = new SplittableRandom(i * 0x9E3779B97F4A7C15L);
+        StringBuilder sb = new StringBuilder(12);
+        if (!isFiveLetter(i)) letters(sb, 1 + r.nextInt(7), r);   // 5글자 코드 앞에 붙여 길이로 구분
+        long code = i * 7919L % CODES;   // 7919 는 26 과 서로소라 번호마다 다른 코드
+        for (int j = 0; j < 5; j++) {
+            sb.append((char) ('a' + code % 26));
+            code /= 26;
+        }
+        if (r.nextInt(10) == 0) sb.setCharAt(0, Character.toUpperCase(sb.charAt(0)));
+        return sb.toString();
+    }
+
+    static String kor(int i) {
+        SplittableRandom r = new SplittableRandom(~i * 0xC2B2AE3D27D4EB4FL);
+        StringBuilder sb = new StringBuilder();
+        int parts = 1 + r.nextInt(3);
+        for (int p = 0; p < parts; p++) {
+            if (p > 0) sb.append(", ");
+            int syllables = 2 + r.nextInt(3);
+            for (int s = 0; s < syllables; s++) sb.append((char) (0xAC00 + r.nextInt(11172)));
+        }
+        if (i % 6 == 0) {
+            sb.append(" (");
+            letters(sb, 4 + r.nextInt(5), r);
+            sb.append(')');
+        }
+        return sb.toString();
+    }
+
+    // 글자 하나를 다른 글자로 바꾼 철자 (FuzzyIndex 제안용)
+    static String typo(String eng, SplittableRandom r) {
+        char[] cs = eng.toLowerCase().toCharArray();
+        int at = r.nextInt(cs.length);
+        cs[at] = (char) ('a' + (cs[at] - 'a' + 1 + r.nextInt(25)) % 26);
+        return new String(cs);
+    }
+
+    private static void letters(StringBuilder sb, int count, SplittableRandom r) {
+        for (int j = 0; j < count; j++) sb.append((char) ('a' + r.nextInt(26)));
+    }
+}
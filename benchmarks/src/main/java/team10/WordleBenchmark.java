@@ -0,0 +1,64 @@
+package team10;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+// Wordle 채점 (코드 / 화면 문자열), 정답 고르기, 피드백으로 후보 좁히기 (5글자)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class WordleBenchmark {
+
+    private WordleSolver solver;
+    private BitSet all;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(DictionaryState d) {
+        solver = d.manager.getWordleSolver(5);
+        all = solver.all();
+    }
+
+    @Benchmark
+    public int score(DictionaryState d) {
+        int q = next++;
+        return WordleFeedback.score(d.fiveLetter[q & (DictionaryState.QUERIES - 1)],
+                d.fiveLetter[(q + 1) & (DictionaryState.QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public String feedback(DictionaryState d) {
+        int q = next++;
+        return VocManager.generateWordleFeedback(d.fiveLetter[q & (DictionaryState.QUERIES - 1)],
+                d.fiveLetter[(q + 1) & (DictionaryState.QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public Word chooseTarget(DictionaryState d) {
+        return d.manager.chooseWordleTarget(5);
+    }
+
+    // 첫 추측 뒤 남는 후보 (채점표 조회)
+    @Benchmark
+    public BitSet narrow(DictionaryState d) {
+        int q = next++;
+        String target = d.fiveLetter[q & (DictionaryState.QUERIES - 1)];
+        String guess = d.fiveLetter[(q + 1) & (DictionaryState.QUERIES - 1)];
+        return solver.narrow(all, guess, WordleFeedback.score(target, guess));
+    }
+}
@@ -0,0 +1,100 @@
+package team10;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReviewSchedulerTest {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+    private static final long T0 = 1_700_000_000_000L;
+
+    private ReviewScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        // 안 푼 단어가 많아도 복습이 밀리지 않는지 보려고 단어장을 넉넉하게
+        List<Word> words = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) words.add(new Word("word" + i, "뜻" + i));
+        SortedWordIndex index = new SortedWordIndex();
+        index.addAll(words);
+        scheduler = new ReviewScheduler(index);
+    }
+
+    @Test
+    void wrongAnswerComesBackAfterRelearn() {
+        Word missed = scheduler.next(1, T0).get(0);
+        scheduler.review(missed, 1, T0);
+
+        // 아직 다시 볼 때가 아니면 새 단어가 먼저
+        List<Word> early = scheduler.next(5, T0 + ReviewScheduler.RELEARN_MILLIS - 1);
+        assertFalse(early.subList(0, 4).contains(missed));
+
+        // 10 분이 지나면 안 푼 단어가 999 개 남아 있어도 맨 앞에
+        List<Word> later = scheduler.next(5, T0 + ReviewScheduler.RELEARN_MILLIS);
+        assertEquals(missed, later.get(0));
+        assertEquals(5, later.size());
+    }
+
+    @Test
+    void dueReviewComesBeforeNewWords() {
+        Word learned = scheduler.next(1, T0).get(0);
+        scheduler.review(learned, 4, T0);
+        assertEquals(learned, scheduler.next(1, T0 + DAY).get(0));
+    }
+
+    @Test
+    void intervalAndEaseProgression() {
+        Word w = scheduler.next(1, T0).get(0);
+        long now = T0;
+
+        scheduler.review(w, 5, now);
+        ReviewScheduler.Card c = scheduler.getCard(w);
+        assertEquals(1, c.getInterval());
+        assertEquals(2.6f, c.getEase(), 1e-5);
+        assertEquals(now + DAY, c.getDue());
+
+        now = c.getDue();
+        scheduler.review(w, 5, now);
+        assertEquals(6, c.getInterval());
+        assertEquals(2.7f, c.getEase(), 1e-5);
+        assertEquals(now + 6 * DAY, c.getDue());
+
+        now = c.getDue();
+        scheduler.review(w, 5, now);
+        assertEquals(16, c.getInterval());   // round(6 × 2.7)
+        assertEquals(2.8f, c.getEase(), 1e-5);
+
+        // 틀리면 처음부터, ease 는 0.64 깎임
+        now = c.getDue();
+        scheduler.review(w, 1, now);
+        assertEquals(1, c.getInterval());
+        assertEquals(1, c.getLapses());
+        assertEquals(2.26f, c.getEase(), 1e-5);
+        assertEquals(now + ReviewScheduler.RELEARN_MILLIS, c.getDue());
+
+        // 계속 틀려도 ease 는 1.3 아래로 내려가지 않는다
+        for (int i = 0; i < 10; i++) scheduler.review(w, 0, now);
+        assertEquals(1.3f, c.getEase(), 1e-5);
+    }
+
+    @Test
+    void newWordsAreCappedPerDay() {
+        scheduler.setNewPerDay(3);
+        for (Word w : scheduler.next(3, T0)) scheduler.review(w, 1, T0);
+
+        // 한도를 다 썼으면 곧 다시 볼 카드가 새 단어보다 먼저
+        List<Word> next = scheduler.next(3, T0 + 1000);
+        for (Word w : next) assertTrue(scheduler.getCard(w) != null, w.getEng());
+
+        // 다음 날에는 복습 3 + 새 단어 3
+        assertEquals(6, scheduler.dueCount(T0 + DAY));
+    }
+}